@@ -0,0 +1,79 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request and RSS of the packaged app with and without CDS / Spring AOT.
+#
+#   mvn -Pfast-startup -DskipTests package   # or plain `package` to skip the AOT variants
+#   scripts/startup-benchmark.sh [runs]
+#
+# The app connects to the database configured through SPRING_DATASOURCE_* (e.g. `docker compose up -d mssql-init`).
+# EXTRA_CLASSPATH adds jars such as a JDBC driver for a local H2 run.
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-18080}
+JAVA=${JAVA:-java}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+WORK="$ROOT/target/startup-benchmark"
+JAR=$(ls "$ROOT"/target/corebanking-*.jar | grep -v '\.original$' | head -1)
+MAIN=com.assessment.corebanking.CoreBankingApplication
+
+rm -rf "$WORK" && mkdir -p "$WORK/lib" "$WORK/extract"
+(cd "$WORK/extract" && jar xf "$JAR")
+cp "$WORK"/extract/BOOT-INF/lib/*.jar "$WORK/lib/"
+jar cf "$WORK/corebanking.jar" -C "$WORK/extract/BOOT-INF/classes" .
+CLASSPATH_ARG="$WORK/corebanking.jar:$WORK/lib/*${EXTRA_CLASSPATH:+:$EXTRA_CLASSPATH}"
+
+HAS_AOT=false
+if ls "$WORK"/extract/BOOT-INF/classes/com/assessment/corebanking/*__ApplicationContextInitializer.class >/dev/null 2>&1; then
+    HAS_AOT=true
+fi
+
+train() {
+    local archive=$1 aot=$2
+    "$JAVA" -XX:ArchiveClassesAtExit="$archive" -Xlog:cds=off -Xlog:cds+dynamic=off \
+        -Dspring.aot.enabled="$aot" -Dspring.context.exit=onRefresh \
+        -Dspring.jpa.hibernate.ddl-auto=none \
+        -Dspring.jpa.database-platform="${TRAINING_DIALECT:-org.hibernate.dialect.SQLServerDialect}" \
+        -Dspring.jpa.properties.hibernate.temp.use_jdbc_metadata_defaults=false \
+        -Dlogging.file.name="$WORK/training.log" \
+        -cp "$CLASSPATH_ARG" "$MAIN" >/dev/null
+}
+
+measure() {
+    local opts=$1 start pid elapsed rss
+    start=$(date +%s%N)
+    # shellcheck disable=SC2086
+    "$JAVA" $opts -Dlogging.file.name="$WORK/run.log" -cp "$CLASSPATH_ARG" "$MAIN" --server.port="$PORT" >/dev/null 2>&1 &
+    pid=$!
+    until curl -s -o /dev/null "http://localhost:$PORT/api/cards"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "application exited, see $WORK/run.log" >&2
+            exit 1
+        fi
+        sleep 0.02
+    done
+    elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+    rss=$(awk '/VmRSS/ {print int($2 / 1024)}' "/proc/$pid/status")
+    kill "$pid" && wait "$pid" 2>/dev/null || true
+    echo "$elapsed $rss"
+}
+
+median() {
+    sort -n | awk '{v[NR] = $1} END {print v[int((NR + 1) / 2)]}'
+}
+
+run_variant() {
+    local name=$1 opts=$2 results
+    results=$(for _ in $(seq "$RUNS"); do measure "$opts"; done)
+    printf '%-10s %8s ms %8s MB\n' "$name" \
+        "$(cut -d' ' -f1 <<<"$results" | median)" "$(cut -d' ' -f2 <<<"$results" | median)"
+}
+
+train "$WORK/app.jsa" false
+printf '%-10s %11s %11s\n' variant "first req" "RSS"
+run_variant baseline ""
+run_variant cds "-XX:SharedArchiveFile=$WORK/app.jsa"
+if $HAS_AOT; then
+    train "$WORK/app-aot.jsa" true
+    run_variant aot "-Dspring.aot.enabled=true"
+    run_variant aot+cds "-Dspring.aot.enabled=true -XX:SharedArchiveFile=$WORK/app-aot.jsa"
+fi
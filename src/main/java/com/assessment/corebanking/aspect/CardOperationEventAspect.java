@@ -0,0 +1,55 @@
+package com.assessment.corebanking.aspect;
+
+import com.assessment.corebanking.entity.Card;
+import com.assessment.corebanking.jfr.CardOperationEvent;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emits a {@link CardOperationEvent} around every public {@code CardService} method. When no recording has the
+ * event enabled, the only cost is the {@code isEnabled} check.
+ */
+@Aspect
+@Component
+public class CardOperationEventAspect {
+
+    static final String OK = "OK";
+
+    @Around("execution(public * com.assessment.corebanking.service.CardService.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        CardOperationEvent event = new CardOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        Object result = null;
+        String outcome = OK;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable ex) {
+            outcome = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = joinPoint.getSignature().getName();
+                event.cardId = cardId(joinPoint.getArgs(), result);
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    static long cardId(Object[] args, Object result) {
+        if (args.length > 0 && args[0] instanceof Long id) {
+            return id;
+        }
+        if (result instanceof Card card && card.getId() != null) {
+            return card.getId();
+        }
+        return 0L;
+    }
+}
@@ -1,5 +1,8 @@
 package com.assessment.corebanking.aspect;
 
+import com.assessment.corebanking.audit.AuditLog;
+import com.assessment.corebanking.audit.AuditRecord;
+import com.assessment.corebanking.jfr.PayloadSerializationEvent;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,29 +29,71 @@ public class LoggingAspect {
     private static final Pattern CARD_NUMBER_PATTERN = Pattern.compile("(\\\"cardNumber\\\"\\s*:\\s*\\\")(.*?)(\\\")");
 
     private final ObjectMapper objectMapper;
+    private final AuditLog auditLog;
 
-    public LoggingAspect(ObjectMapper objectMapper) {
+    public LoggingAspect(ObjectMapper objectMapper, AuditLog auditLog) {
         this.objectMapper = objectMapper;
+        this.auditLog = auditLog;
     }
 
     @Around("execution(* com.assessment.corebanking.controller..*(..))")
     public Object logRequestResponse(ProceedingJoinPoint joinPoint) throws Throwable {
         String requestInfo = buildRequestInfo();
         String signature = joinPoint.getSignature().toShortString();
-        String argsJson = maskCardNumber(safeToJson(sanitizeArgs(joinPoint.getArgs())));
-        LOGGER.info("Request {} {} args={}", requestInfo, signature, argsJson);
+        Object[] args = joinPoint.getArgs();
+        String argsJson = serialize(AuditRecord.Type.REQUEST, signature, args, sanitizeArgs(args));
+        log(AuditRecord.Type.REQUEST, requestInfo, signature, argsJson);
 
         try {
             Object result = joinPoint.proceed();
-            String responseJson = maskCardNumber(safeToJson(result));
-            LOGGER.info("Response {} {} result={}", requestInfo, signature, responseJson);
+            String responseJson = serialize(AuditRecord.Type.RESPONSE, signature, args, result);
+            log(AuditRecord.Type.RESPONSE, requestInfo, signature, responseJson);
             return result;
         } catch (Exception ex) {
-            LOGGER.error("Error {} {} message={}", requestInfo, signature, ex.getMessage());
+            log(AuditRecord.Type.ERROR, requestInfo, signature, ex.getMessage());
             throw ex;
         }
     }
 
+    private void log(AuditRecord.Type type, String requestInfo, String signature, String payload) {
+        if (auditLog.isEnabled()) {
+            auditLog.append(new AuditRecord(System.currentTimeMillis(), type, requestInfo, signature, payload));
+            return;
+        }
+        switch (type) {
+            case REQUEST -> LOGGER.info("Request {} {} args={}", requestInfo, signature, payload);
+            case RESPONSE -> LOGGER.info("Response {} {} result={}", requestInfo, signature, payload);
+            case ERROR -> LOGGER.error("Error {} {} message={}", requestInfo, signature, payload);
+        }
+    }
+
+    private String serialize(AuditRecord.Type type, String signature, Object[] args, Object value) {
+        PayloadSerializationEvent event = new PayloadSerializationEvent();
+        event.begin();
+        String outcome = CardOperationEventAspect.OK;
+        String json;
+        if (value == null) {
+            json = "null";
+        } else {
+            try {
+                json = objectMapper.writeValueAsString(value);
+            } catch (JsonProcessingException ex) {
+                json = String.valueOf(value);
+                outcome = ex.getClass().getSimpleName();
+            }
+        }
+        String masked = maskCardNumber(json);
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = type + " " + signature;
+            event.cardId = CardOperationEventAspect.cardId(args, value);
+            event.length = masked.length();
+            event.outcome = outcome;
+            event.commit();
+        }
+        return masked;
+    }
+
     private String buildRequestInfo() {
         ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
         if (attributes == null) {
@@ -80,17 +125,6 @@ public class LoggingAspect {
         return sanitized;
     }
 
-    private String safeToJson(Object value) {
-        if (value == null) {
-            return "null";
-        }
-        try {
-            return objectMapper.writeValueAsString(value);
-        } catch (JsonProcessingException ex) {
-            return String.valueOf(value);
-        }
-    }
-
     String maskCardNumber(String input) {
         if (input == null) {
             return null;
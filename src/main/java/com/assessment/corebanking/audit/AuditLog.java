@@ -0,0 +1,144 @@
+package com.assessment.corebanking.audit;
+
+import com.assessment.corebanking.config.AuditProperties;
+import com.assessment.corebanking.enums.AuditOverflowPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AuditLog implements DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuditLog.class);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final boolean enabled;
+    private final AuditOverflowPolicy overflow;
+    private final long blockTimeoutNanos;
+    private final int batchSize;
+    private final AuditRingBuffer<AuditRecord> ringBuffer;
+    private final AuditSegmentWriter segmentWriter;
+    private final Counter dropped;
+    private final Counter written;
+    private final Thread writer;
+    private volatile boolean running = true;
+    private boolean unforced;
+
+    public AuditLog(AuditProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.overflow = properties.getOverflow();
+        this.blockTimeoutNanos = properties.getBlockTimeout().toNanos();
+        this.batchSize = properties.getBatchSize();
+        this.dropped = meterRegistry.counter("corebanking.audit.dropped");
+        this.written = meterRegistry.counter("corebanking.audit.written");
+        if (!enabled) {
+            this.ringBuffer = null;
+            this.segmentWriter = null;
+            this.writer = null;
+            return;
+        }
+        this.ringBuffer = new AuditRingBuffer<>(properties.getBufferCapacity());
+        this.segmentWriter = new AuditSegmentWriter(properties.getDirectory(),
+            Math.toIntExact(properties.getSegmentSize().toBytes()), properties.getMaxSegments());
+        Gauge.builder("corebanking.audit.queued", ringBuffer, AuditRingBuffer::size).register(meterRegistry);
+        this.writer = Thread.ofPlatform().daemon().name("audit-writer").start(this::run);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void append(AuditRecord record) {
+        if (ringBuffer.offer(record)) {
+            return;
+        }
+        if (overflow == AuditOverflowPolicy.BLOCK && offerUntil(record, System.nanoTime() + blockTimeoutNanos)) {
+            return;
+        }
+        dropped.increment();
+    }
+
+    // Gives up once the writer has stopped, for whatever reason, or the wait runs out, so a request never hangs here.
+    private boolean offerUntil(AuditRecord record, long deadline) {
+        while (running) {
+            if (ringBuffer.offer(record)) {
+                return true;
+            }
+            if (deadline - System.nanoTime() <= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        return false;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                int drained = ringBuffer.drain(this::write, batchSize);
+                if (drained == 0) {
+                    if (unforced) {
+                        force();
+                        unforced = false;
+                    }
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+            int drained;
+            do {
+                drained = ringBuffer.drain(this::write, batchSize);
+            } while (drained > 0);
+        } catch (RuntimeException | Error ex) {
+            LOGGER.error("Audit writer stopped; further records are dropped", ex);
+            throw ex;
+        } finally {
+            // Callers blocked on a full buffer would otherwise wait for a writer that is gone.
+            running = false;
+            try {
+                segmentWriter.close();
+            } catch (IOException ex) {
+                LOGGER.warn("Failed to close audit segment: {}", ex.getMessage());
+            }
+        }
+    }
+
+    private void force() {
+        try {
+            segmentWriter.force();
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Failed to force audit segment: {}", ex.getMessage());
+        }
+    }
+
+    private void write(AuditRecord record) {
+        try {
+            if (segmentWriter.write(record.encode())) {
+                unforced = true;
+                written.increment();
+            } else {
+                dropped.increment();
+            }
+        } catch (IOException | RuntimeException ex) {
+            dropped.increment();
+            LOGGER.warn("Failed to write audit record: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.assessment.corebanking.audit;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Dumps audit segments as text, one record per line:
+ * {@code java -cp target/classes com.assessment.corebanking.audit.AuditLogReader logs/audit [more segments or dirs]}.
+ */
+public final class AuditLogReader {
+
+    private AuditLogReader() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<Path> paths = new ArrayList<>();
+        for (String arg : args.length == 0 ? new String[] {"logs/audit"} : args) {
+            Path path = Path.of(arg);
+            paths.addAll(Files.isDirectory(path) ? AuditSegmentWriter.segments(path) : List.of(path));
+        }
+        for (Path segment : paths) {
+            read(segment, record -> print(record, System.out));
+        }
+    }
+
+    public static List<AuditRecord> readAll(Path directory) throws IOException {
+        List<AuditRecord> records = new ArrayList<>();
+        for (Path segment : AuditSegmentWriter.segments(directory)) {
+            read(segment, records::add);
+        }
+        return records;
+    }
+
+    public static void read(Path segment, Consumer<AuditRecord> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < AuditSegmentWriter.HEADER_BYTES || buffer.getInt() != AuditSegmentWriter.MAGIC) {
+                throw new IOException("Not an audit segment: " + segment);
+            }
+            while (buffer.remaining() >= Integer.BYTES) {
+                int length = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    break;
+                }
+                consumer.accept(AuditRecord.decode(buffer.slice(buffer.position(), length)));
+                buffer.position(buffer.position() + length);
+            }
+        }
+    }
+
+    private static void print(AuditRecord record, PrintStream out) {
+        out.println(Instant.ofEpochMilli(record.timestamp()) + " " + record.type() + " " + record.request()
+            + " " + record.signature() + " " + record.payload());
+    }
+}
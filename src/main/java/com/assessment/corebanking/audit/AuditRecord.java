@@ -0,0 +1,52 @@
+package com.assessment.corebanking.audit;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One request, response or error line of the audit log. On disk a record is an {@code int} length followed by the
+ * epoch millis, the type ordinal and three length-prefixed UTF-8 strings.
+ */
+public record AuditRecord(long timestamp, Type type, String request, String signature, String payload) {
+
+    public enum Type {
+        REQUEST,
+        RESPONSE,
+        ERROR
+    }
+
+    byte[] encode() {
+        byte[] requestBytes = bytes(request);
+        byte[] signatureBytes = bytes(signature);
+        byte[] payloadBytes = bytes(payload);
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + 1 + 3 * Integer.BYTES
+            + requestBytes.length + signatureBytes.length + payloadBytes.length);
+        buffer.putLong(timestamp);
+        buffer.put((byte) type.ordinal());
+        putBytes(buffer, requestBytes);
+        putBytes(buffer, signatureBytes);
+        putBytes(buffer, payloadBytes);
+        return buffer.array();
+    }
+
+    static AuditRecord decode(ByteBuffer buffer) {
+        long timestamp = buffer.getLong();
+        Type type = Type.values()[buffer.get()];
+        return new AuditRecord(timestamp, type, getString(buffer), getString(buffer), getString(buffer));
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] value) {
+        buffer.putInt(value.length);
+        buffer.put(value);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] value = new byte[buffer.getInt()];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
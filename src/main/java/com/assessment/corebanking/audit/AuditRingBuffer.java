@@ -0,0 +1,60 @@
+package com.assessment.corebanking.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded multi-producer, single-consumer ring buffer. Producers claim a slot by CAS on the tail sequence and
+ * publish by writing the slot; the consumer treats an empty slot as "not yet published".
+ */
+final class AuditRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    AuditRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    boolean offer(E element) {
+        while (true) {
+            long sequence = tail.get();
+            if (sequence - head.get() >= slots.length()) {
+                return false;
+            }
+            if (tail.compareAndSet(sequence, sequence + 1)) {
+                slots.set((int) sequence & mask, element);
+                return true;
+            }
+        }
+    }
+
+    int drain(Consumer<E> consumer, int limit) {
+        long sequence = head.get();
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) sequence & mask;
+            E element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            sequence++;
+            head.lazySet(sequence);
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+}
@@ -0,0 +1,111 @@
+package com.assessment.corebanking.audit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Appends encoded records to fixed-size, memory-mapped segment files named {@code audit-<sequence>.seg}. A zero
+ * length marks the end of a segment. Once {@code maxSegments} files exist the oldest is deleted on rotation.
+ */
+final class AuditSegmentWriter implements AutoCloseable {
+
+    static final int MAGIC = 0x43424155;
+    static final int HEADER_BYTES = Integer.BYTES;
+    static final String PREFIX = "audit-";
+    static final String SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private long sequence;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    AuditSegmentWriter(Path directory, int segmentSize, int maxSegments) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        try {
+            Files.createDirectories(directory);
+            this.sequence = segments(directory).stream()
+                .mapToLong(AuditSegmentWriter::sequenceOf)
+                .max()
+                .orElse(0);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Returns {@code false} if the record can never fit in a segment.
+     */
+    boolean write(byte[] record) throws IOException {
+        int needed = Integer.BYTES + record.length;
+        if (needed + Integer.BYTES > segmentSize - HEADER_BYTES) {
+            return false;
+        }
+        if (buffer == null || buffer.remaining() < needed + Integer.BYTES) {
+            rotate();
+        }
+        buffer.putInt(record.length);
+        buffer.put(record);
+        return true;
+    }
+
+    void force() {
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (buffer != null) {
+            buffer.force();
+            buffer = null;
+        }
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    static List<Path> segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+            }).sorted().toList();
+        }
+    }
+
+    private void rotate() throws IOException {
+        close();
+        sequence++;
+        Path segment = directory.resolve(String.format("%s%012d%s", PREFIX, sequence, SUFFIX));
+        channel = FileChannel.open(segment, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        buffer.putInt(MAGIC);
+        List<Path> existing = segments(directory);
+        for (int i = 0; i < existing.size() - maxSegments; i++) {
+            Files.deleteIfExists(existing.get(i));
+        }
+    }
+
+    private static long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.assessment.corebanking.bin;
+
+import com.assessment.corebanking.enums.CardType;
+
+/**
+ * What a BIN range says about the cards in it. {@code issuer} and {@code product} are null when the BIN file
+ * leaves them blank.
+ */
+public record BinInfo(String network, String issuer, CardType product) {
+}
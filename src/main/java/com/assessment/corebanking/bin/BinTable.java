@@ -0,0 +1,184 @@
+package com.assessment.corebanking.bin;
+
+import com.assessment.corebanking.enums.CardType;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable BIN range table. Ranges are flattened at load time into disjoint intervals over the first
+ * {@value #KEY_DIGITS} digits of the card number, held in two sorted {@code int} arrays plus a parallel array of
+ * shared {@link BinInfo} instances, so {@link #lookup(CharSequence)} is a binary search that allocates nothing.
+ * Where ranges nest, the narrowest one wins.
+ *
+ * <p>The table in use is held by a {@link BinTableHolder} bean, which swaps it atomically on reload.
+ *
+ * <p>The file format is one range per line, {@code low,high,network,issuer,product}, where {@code low} and
+ * {@code high} are BIN prefixes of up to {@value #KEY_DIGITS} digits, and {@code issuer} and {@code product} may be
+ * blank. Blank lines and lines starting with {@code #} are ignored.
+ */
+public final class BinTable {
+
+    public static final int KEY_DIGITS = 8;
+    private static final int MIN_DIGITS = 6;
+    private static final BinTable EMPTY = new BinTable(new int[0], new int[0], new BinInfo[0]);
+
+    private final int[] starts;
+    private final int[] ends;
+    private final BinInfo[] infos;
+
+    private BinTable(int[] starts, int[] ends, BinInfo[] infos) {
+        this.starts = starts;
+        this.ends = ends;
+        this.infos = infos;
+    }
+
+    public static BinTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Classifies a card number, or a stored BIN of at least six digits, or returns null when no range covers it.
+     */
+    public BinInfo lookup(CharSequence number) {
+        int key = key(number);
+        if (key < 0) {
+            return null;
+        }
+        int index = Arrays.binarySearch(starts, key);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        if (index < 0 || key > ends[index]) {
+            return null;
+        }
+        return infos[index];
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    static int key(CharSequence number) {
+        if (number == null || number.length() < MIN_DIGITS) {
+            return -1;
+        }
+        int key = 0;
+        for (int i = 0; i < KEY_DIGITS; i++) {
+            int digit = i < number.length() ? number.charAt(i) - '0' : 0;
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            key = key * 10 + digit;
+        }
+        return key;
+    }
+
+    public static BinTable parse(Reader reader) throws IOException {
+        List<Range> ranges = new ArrayList<>();
+        Map<BinInfo, BinInfo> shared = new HashMap<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        int number = 0;
+        while ((line = lines.readLine()) != null) {
+            number++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                ranges.add(parseRange(line, number, shared));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Invalid BIN range on line " + number + ": " + ex.getMessage());
+            }
+        }
+        return build(ranges);
+    }
+
+    private static Range parseRange(String line, int number, Map<BinInfo, BinInfo> shared) {
+        String[] fields = line.split(",", -1);
+        if (fields.length != 5) {
+            throw new IllegalArgumentException("expected low,high,network,issuer,product");
+        }
+        int low = bound(fields[0].strip(), '0');
+        int high = bound(fields[1].strip(), '9');
+        if (low > high) {
+            throw new IllegalArgumentException("low is above high");
+        }
+        String network = fields[2].strip();
+        if (network.isEmpty()) {
+            throw new IllegalArgumentException("network is required");
+        }
+        String issuer = fields[3].strip();
+        String product = fields[4].strip();
+        BinInfo info = new BinInfo(network, issuer.isEmpty() ? null : issuer,
+            product.isEmpty() ? null : CardType.valueOf(product.toUpperCase(Locale.ROOT)));
+        return new Range(low, high, shared.computeIfAbsent(info, key -> key), number);
+    }
+
+    private static int bound(String prefix, char fill) {
+        if (prefix.isEmpty() || prefix.length() > KEY_DIGITS || !prefix.chars().allMatch(Character::isDigit)) {
+            throw new IllegalArgumentException("'" + prefix + "' is not a BIN prefix of 1 to " + KEY_DIGITS
+                + " digits");
+        }
+        return Integer.parseInt(prefix + String.valueOf(fill).repeat(KEY_DIGITS - prefix.length()));
+    }
+
+    private static BinTable build(List<Range> ranges) {
+        int[] points = ranges.stream()
+            .flatMapToInt(range -> IntStream.of(range.low(), range.high() + 1))
+            .sorted().distinct().toArray();
+        List<Range> byLow = new ArrayList<>(ranges);
+        byLow.sort(Comparator.comparingInt(Range::low));
+        List<Range> byHigh = new ArrayList<>(ranges);
+        byHigh.sort(Comparator.comparingInt(Range::high));
+        TreeSet<Range> active = new TreeSet<>(Comparator.comparingInt(Range::width)
+            .thenComparing(Comparator.comparingInt(Range::line).reversed()));
+
+        int[] starts = new int[points.length];
+        int[] ends = new int[points.length];
+        BinInfo[] infos = new BinInfo[points.length];
+        int size = 0;
+        int nextLow = 0;
+        int nextHigh = 0;
+        for (int i = 0; i < points.length - 1; i++) {
+            int point = points[i];
+            while (nextHigh < byHigh.size() && byHigh.get(nextHigh).high() < point) {
+                active.remove(byHigh.get(nextHigh++));
+            }
+            while (nextLow < byLow.size() && byLow.get(nextLow).low() == point) {
+                active.add(byLow.get(nextLow++));
+            }
+            if (active.isEmpty()) {
+                continue;
+            }
+            BinInfo winner = active.first().info();
+            int end = points[i + 1] - 1;
+            if (size > 0 && infos[size - 1] == winner && ends[size - 1] == point - 1) {
+                ends[size - 1] = end;
+            } else {
+                starts[size] = point;
+                ends[size] = end;
+                infos[size] = winner;
+                size++;
+            }
+        }
+        return new BinTable(Arrays.copyOf(starts, size), Arrays.copyOf(ends, size), Arrays.copyOf(infos, size));
+    }
+
+    private record Range(int low, int high, BinInfo info, int line) {
+
+        int width() {
+            return high - low;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.assessment.corebanking.bin;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.stereotype.Component;
+
+/**
+ * The {@link BinTable} this application context classifies cards against. The loader swaps in a new table when the
+ * BIN file changes; callers take {@link #current()} once per request so one response never mixes two tables.
+ */
+@Component
+public class BinTableHolder {
+
+    private final AtomicReference<BinTable> current = new AtomicReference<>(BinTable.empty());
+
+    public BinTable current() {
+        return current.get();
+    }
+
+    /**
+     * Makes {@code table} the current table and returns the one it replaced.
+     */
+    public BinTable install(BinTable table) {
+        return current.getAndSet(Objects.requireNonNull(table, "table"));
+    }
+}
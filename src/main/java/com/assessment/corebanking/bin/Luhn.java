@@ -0,0 +1,48 @@
+package com.assessment.corebanking.bin;
+
+/**
+ * Mod-10 check digit validation for card numbers.
+ */
+public final class Luhn {
+
+    private Luhn() {
+    }
+
+    public static boolean isValid(CharSequence number) {
+        if (number == null || number.length() < 2) {
+            return false;
+        }
+        return sum(number, number.length(), false) % 10 == 0;
+    }
+
+    public static String withCheckDigit(CharSequence payload) {
+        if (payload == null || payload.isEmpty()) {
+            throw new IllegalArgumentException("payload must not be empty");
+        }
+        int sum = sum(payload, payload.length(), true);
+        if (sum < 0) {
+            throw new IllegalArgumentException("payload must only contain digits");
+        }
+        return payload.toString() + (10 - sum % 10) % 10;
+    }
+
+    private static int sum(CharSequence digits, int length, boolean doubleLast) {
+        int sum = 0;
+        boolean doubled = doubleLast;
+        for (int i = length - 1; i >= 0; i--) {
+            int digit = digits.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            if (doubled) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+            doubled = !doubled;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,86 @@
+package com.assessment.corebanking.concurrency;
+
+import com.assessment.corebanking.config.ConcurrencyLimitProperties;
+import com.assessment.corebanking.enums.EndpointClass;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/cards";
+    private static final byte[] OVERLOADED_BODY = "{\"error\":\"Service overloaded\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final boolean enabled;
+    private final String retryAfterSeconds;
+    private final Map<EndpointClass, GradientConcurrencyLimit> limits = new EnumMap<>(EndpointClass.class);
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.retryAfterSeconds = String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds()));
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            ConcurrencyLimitProperties.Limit limit = properties.getLimit(endpointClass);
+            limits.put(endpointClass, new GradientConcurrencyLimit(limit.getInitialLimit(), limit.getMinLimit(),
+                limit.getMaxLimit(), properties.getTolerance(), properties.getSmoothing()));
+        }
+    }
+
+    public GradientConcurrencyLimit getLimit(EndpointClass endpointClass) {
+        return limits.get(endpointClass);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        GradientConcurrencyLimit limit = limits.get(classify(request));
+        if (!limit.tryAcquire()) {
+            reject(response);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limit.release(System.nanoTime() - start);
+        }
+    }
+
+    static EndpointClass classify(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+            return EndpointClass.WRITE;
+        }
+        if (request.getRequestURI().endsWith("/notifications")) {
+            return EndpointClass.NOTIFICATIONS;
+        }
+        return EndpointClass.READ;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(OVERLOADED_BODY.length);
+        response.getOutputStream().write(OVERLOADED_BODY);
+    }
+}
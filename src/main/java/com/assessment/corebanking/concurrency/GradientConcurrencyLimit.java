@@ -0,0 +1,78 @@
+package com.assessment.corebanking.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gradient limit in the style of Netflix concurrency-limits' Gradient2: grows by sqrt(limit) while
+ * latency tracks its long-term average and shrinks multiplicatively once requests start queueing.
+ */
+public class GradientConcurrencyLimit {
+
+    private static final int LONG_WINDOW = 600;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double estimatedLimit;
+    private double longRttNanos;
+
+    public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid concurrency limit bounds: " + minLimit + ".." + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) estimatedLimit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        onSample(rttNanos, inFlightAtCompletion);
+    }
+
+    public int getLimit() {
+        return (int) estimatedLimit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion) {
+        double shortRtt = Math.max(1, rttNanos);
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+            return;
+        }
+        longRttNanos += (shortRtt - longRttNanos) / LONG_WINDOW;
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= 0.95;
+        }
+        double limit = estimatedLimit;
+        if (inFlightAtCompletion < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / shortRtt));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+}
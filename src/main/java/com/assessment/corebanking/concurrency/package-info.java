@@ -0,0 +1 @@
+package com.assessment.corebanking.concurrency;
@@ -0,0 +1,45 @@
+package com.assessment.corebanking.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "corebanking.archive")
+public class ArchiveProperties {
+
+    private boolean enabled = true;
+    private Duration expiredAfter = Duration.ofDays(30);
+    private Duration inactiveAfter = Duration.ofDays(180);
+    private int batchSize = 500;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getExpiredAfter() {
+        return expiredAfter;
+    }
+
+    public void setExpiredAfter(Duration expiredAfter) {
+        this.expiredAfter = expiredAfter;
+    }
+
+    public Duration getInactiveAfter() {
+        return inactiveAfter;
+    }
+
+    public void setInactiveAfter(Duration inactiveAfter) {
+        this.inactiveAfter = inactiveAfter;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
@@ -0,0 +1,84 @@
+package com.assessment.corebanking.config;
+
+import com.assessment.corebanking.enums.AuditOverflowPolicy;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "corebanking.audit")
+public class AuditProperties {
+
+    private boolean enabled = true;
+    private Path directory = Path.of("logs", "audit");
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+    private int maxSegments = 16;
+    private int bufferCapacity = 8192;
+    private int batchSize = 256;
+    private AuditOverflowPolicy overflow = AuditOverflowPolicy.DROP;
+    private Duration blockTimeout = Duration.ofSeconds(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(Path directory) {
+        this.directory = directory;
+    }
+
+    public DataSize getSegmentSize() {
+        return segmentSize;
+    }
+
+    public void setSegmentSize(DataSize segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public int getMaxSegments() {
+        return maxSegments;
+    }
+
+    public void setMaxSegments(int maxSegments) {
+        this.maxSegments = maxSegments;
+    }
+
+    public int getBufferCapacity() {
+        return bufferCapacity;
+    }
+
+    public void setBufferCapacity(int bufferCapacity) {
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public AuditOverflowPolicy getOverflow() {
+        return overflow;
+    }
+
+    public void setOverflow(AuditOverflowPolicy overflow) {
+        this.overflow = overflow;
+    }
+
+    public Duration getBlockTimeout() {
+        return blockTimeout;
+    }
+
+    public void setBlockTimeout(Duration blockTimeout) {
+        this.blockTimeout = blockTimeout;
+    }
+}
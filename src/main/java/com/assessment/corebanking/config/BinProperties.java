@@ -0,0 +1,17 @@
+package com.assessment.corebanking.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "corebanking.bin")
+public class BinProperties {
+
+    private String location = "classpath:bin/bin-ranges.csv";
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+}
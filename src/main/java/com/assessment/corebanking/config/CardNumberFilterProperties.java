@@ -0,0 +1,35 @@
+package com.assessment.corebanking.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "corebanking.card-number-filter")
+public class CardNumberFilterProperties {
+
+    private boolean enabled = true;
+    private long expectedInsertions = 1_000_000;
+    private double falsePositiveProbability = 0.01;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    public void setExpectedInsertions(long expectedInsertions) {
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    public void setFalsePositiveProbability(double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+}
@@ -0,0 +1,91 @@
+package com.assessment.corebanking.config;
+
+import com.assessment.corebanking.enums.EndpointClass;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "corebanking.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private double tolerance = 1.5;
+    private double smoothing = 0.2;
+    private Map<EndpointClass, Limit> limits = new EnumMap<>(EndpointClass.class);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(Duration retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    public void setSmoothing(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    public Map<EndpointClass, Limit> getLimits() {
+        return limits;
+    }
+
+    public void setLimits(Map<EndpointClass, Limit> limits) {
+        this.limits = limits;
+    }
+
+    public Limit getLimit(EndpointClass endpointClass) {
+        return limits.getOrDefault(endpointClass, new Limit());
+    }
+
+    public static class Limit {
+        private int initialLimit = 20;
+        private int minLimit = 5;
+        private int maxLimit = 200;
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+    }
+}
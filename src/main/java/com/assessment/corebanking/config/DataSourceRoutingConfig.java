@@ -0,0 +1,71 @@
+package com.assessment.corebanking.config;
+
+import com.assessment.corebanking.datasource.ReadWriteRoutingDataSource;
+import com.assessment.corebanking.datasource.ReadWriteStickinessFilter;
+import com.assessment.corebanking.datasource.ReplicaDataSource;
+import com.assessment.corebanking.datasource.ReplicaHealthMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@Configuration
+@ConditionalOnExpression("${corebanking.datasource.routing.enabled:false} and !${corebanking.sharding.enabled:false}")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                                 DataSourceRoutingProperties routingProperties,
+                                                                 MeterRegistry meterRegistry) {
+        DataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        List<ReplicaDataSource> replicas = new ArrayList<>();
+        int index = 0;
+        for (DataSourceRoutingProperties.Replica replica : routingProperties.getReplicas()) {
+            String name = replica.getName() != null ? replica.getName() : "replica-" + index;
+            DataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword())
+                .driverClassName(replica.getDriverClassName())
+                .build();
+            replicas.add(new ReplicaDataSource(name, dataSource));
+            index++;
+        }
+        return new ReadWriteRoutingDataSource(primary, replicas, routingProperties.getMaxLag(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(ReadWriteRoutingDataSource readWriteRoutingDataSource,
+                                                     MeterRegistry meterRegistry) {
+        DataSource primary = readWriteRoutingDataSource.getResolvedDefaultDataSource();
+        return new ReplicaHealthMonitor(primary, readWriteRoutingDataSource, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadWriteStickinessFilter> readWriteStickinessFilter(
+            DataSourceRoutingProperties routingProperties) {
+        FilterRegistrationBean<ReadWriteStickinessFilter> registration =
+            new FilterRegistrationBean<>(new ReadWriteStickinessFilter(routingProperties.getStickiness()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+}
@@ -0,0 +1,93 @@
+package com.assessment.corebanking.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "corebanking.external-api")
+public class ExternalApiProperties {
+
+    private String baseUrl = "https://jsonplaceholder.typicode.com";
+    private Hedging hedging = new Hedging();
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public Hedging getHedging() {
+        return hedging;
+    }
+
+    public void setHedging(Hedging hedging) {
+        this.hedging = hedging;
+    }
+
+    public static class Hedging {
+        private boolean enabled = true;
+        private double percentile = 0.95;
+        private int sampleSize = 1000;
+        private int minSamples = 20;
+        private Duration minDelay = Duration.ofMillis(20);
+        private Duration maxDelay = Duration.ofSeconds(1);
+        private double budgetRatio = 0.1;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getPercentile() {
+            return percentile;
+        }
+
+        public void setPercentile(double percentile) {
+            this.percentile = percentile;
+        }
+
+        public int getSampleSize() {
+            return sampleSize;
+        }
+
+        public void setSampleSize(int sampleSize) {
+            this.sampleSize = sampleSize;
+        }
+
+        public int getMinSamples() {
+            return minSamples;
+        }
+
+        public void setMinSamples(int minSamples) {
+            this.minSamples = minSamples;
+        }
+
+        public Duration getMinDelay() {
+            return minDelay;
+        }
+
+        public void setMinDelay(Duration minDelay) {
+            this.minDelay = minDelay;
+        }
+
+        public Duration getMaxDelay() {
+            return maxDelay;
+        }
+
+        public void setMaxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+        }
+
+        public double getBudgetRatio() {
+            return budgetRatio;
+        }
+
+        public void setBudgetRatio(double budgetRatio) {
+            this.budgetRatio = budgetRatio;
+        }
+    }
+}
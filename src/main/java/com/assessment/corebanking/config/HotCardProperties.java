@@ -0,0 +1,54 @@
+package com.assessment.corebanking.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "corebanking.hot-cards")
+public class HotCardProperties {
+
+    private boolean enabled = true;
+    private int topK = 32;
+    private int sketchWidth = 4096;
+    private int sketchDepth = 4;
+    private Duration decayInterval = Duration.ofSeconds(10);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    public void setTopK(int topK) {
+        this.topK = topK;
+    }
+
+    public int getSketchWidth() {
+        return sketchWidth;
+    }
+
+    public void setSketchWidth(int sketchWidth) {
+        this.sketchWidth = sketchWidth;
+    }
+
+    public int getSketchDepth() {
+        return sketchDepth;
+    }
+
+    public void setSketchDepth(int sketchDepth) {
+        this.sketchDepth = sketchDepth;
+    }
+
+    public Duration getDecayInterval() {
+        return decayInterval;
+    }
+
+    public void setDecayInterval(Duration decayInterval) {
+        this.decayInterval = decayInterval;
+    }
+}
@@ -0,0 +1,27 @@
+package com.assessment.corebanking.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "corebanking.idempotency")
+public class IdempotencyProperties {
+
+    private Duration ttl = Duration.ofHours(24);
+    private int maxMemoryEntries = 10_000;
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public int getMaxMemoryEntries() {
+        return maxMemoryEntries;
+    }
+
+    public void setMaxMemoryEntries(int maxMemoryEntries) {
+        this.maxMemoryEntries = maxMemoryEntries;
+    }
+}
@@ -0,0 +1,12 @@
+package com.assessment.corebanking.config;
+
+import com.assessment.corebanking.repository.CardRepository;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@Configuration
+@EnableJpaAuditing
+@EnableJpaRepositories(basePackageClasses = CardRepository.class)
+public class JpaConfig {
+}
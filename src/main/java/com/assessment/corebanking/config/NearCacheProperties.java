@@ -0,0 +1,72 @@
+package com.assessment.corebanking.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "corebanking.near-cache")
+public class NearCacheProperties {
+
+    private boolean enabled = false;
+    private Duration ttl = Duration.ofSeconds(30);
+    private int maxEntries = 10_000;
+    private Duration pollInterval = Duration.ofSeconds(1);
+    private Duration hotRefreshInterval = Duration.ofSeconds(5);
+    private Duration gapTimeout = Duration.ofSeconds(10);
+    private Duration retention = Duration.ofHours(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public Duration getHotRefreshInterval() {
+        return hotRefreshInterval;
+    }
+
+    public void setHotRefreshInterval(Duration hotRefreshInterval) {
+        this.hotRefreshInterval = hotRefreshInterval;
+    }
+
+    public Duration getGapTimeout() {
+        return gapTimeout;
+    }
+
+    public void setGapTimeout(Duration gapTimeout) {
+        this.gapTimeout = gapTimeout;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+}
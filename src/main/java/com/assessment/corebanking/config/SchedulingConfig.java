@@ -1,9 +1,9 @@
 package com.assessment.corebanking.config;
 
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
-@EnableJpaAuditing
-public class AuditingConfig {
+@EnableScheduling
+public class SchedulingConfig {
 }
@@ -0,0 +1,86 @@
+package com.assessment.corebanking.config;
+
+import com.assessment.corebanking.sharding.CardShardRebalancer;
+import com.assessment.corebanking.sharding.CardShardRouter;
+import com.assessment.corebanking.sharding.ShardRoutingDataSource;
+import com.assessment.corebanking.sharding.ShardSchemaInitializer;
+import com.assessment.corebanking.sharding.ShardSchemaIntegrator;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@Configuration
+@ConditionalOnProperty(prefix = "corebanking.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    public ShardingConfig(ShardingProperties shardingProperties, DataSourceRoutingProperties routingProperties) {
+        if (routingProperties.isEnabled()) {
+            throw new IllegalStateException(
+                "corebanking.sharding and corebanking.datasource.routing cannot be enabled together");
+        }
+        if (shardingProperties.getShards().isEmpty()) {
+            throw new IllegalStateException("corebanking.sharding.shards must list at least one datasource");
+        }
+    }
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(ShardingProperties shardingProperties) {
+        List<DataSource> shards = new ArrayList<>();
+        for (ShardingProperties.Shard shard : shardingProperties.getShards()) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(shard.getUrl())
+                .username(shard.getUsername())
+                .password(shard.getPassword())
+                .driverClassName(shard.getDriverClassName())
+                .build();
+            dataSource.setPoolName("shard-" + shards.size());
+            shards.add(dataSource);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    @Bean
+    public ShardSchemaIntegrator shardSchemaIntegrator() {
+        return new ShardSchemaIntegrator();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer shardSchemaIntegratorCustomizer(ShardSchemaIntegrator shardSchemaIntegrator) {
+        return properties -> properties.put(JpaSettings.INTEGRATOR_PROVIDER,
+            (IntegratorProvider) () -> List.of(shardSchemaIntegrator));
+    }
+
+    @Bean
+    public ShardSchemaInitializer shardSchemaInitializer(EntityManagerFactory entityManagerFactory,
+                                                         ShardSchemaIntegrator shardSchemaIntegrator,
+                                                         DataSource dataSource,
+                                                         CardShardRouter cardShardRouter) {
+        return new ShardSchemaInitializer(entityManagerFactory, shardSchemaIntegrator, dataSource, cardShardRouter);
+    }
+
+    @Bean
+    public CardShardRebalancer cardShardRebalancer(DataSource dataSource,
+                                                   CardShardRouter cardShardRouter,
+                                                   ShardingProperties shardingProperties) {
+        return new CardShardRebalancer(dataSource, cardShardRouter,
+            shardingProperties.getRebalanceBatchSize(), shardingProperties.getRebalanceTolerance());
+    }
+}
@@ -0,0 +1,99 @@
+package com.assessment.corebanking.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "corebanking.sharding")
+public class ShardingProperties {
+
+    private boolean enabled;
+    private Duration rangeRefreshInterval = Duration.ofSeconds(30);
+    private int rebalanceBatchSize = 500;
+    private double rebalanceTolerance = 0.1;
+    private List<Shard> shards = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getRangeRefreshInterval() {
+        return rangeRefreshInterval;
+    }
+
+    public void setRangeRefreshInterval(Duration rangeRefreshInterval) {
+        this.rangeRefreshInterval = rangeRefreshInterval;
+    }
+
+    public int getRebalanceBatchSize() {
+        return rebalanceBatchSize;
+    }
+
+    public void setRebalanceBatchSize(int rebalanceBatchSize) {
+        this.rebalanceBatchSize = rebalanceBatchSize;
+    }
+
+    public double getRebalanceTolerance() {
+        return rebalanceTolerance;
+    }
+
+    public void setRebalanceTolerance(double rebalanceTolerance) {
+        this.rebalanceTolerance = rebalanceTolerance;
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    public void setShards(List<Shard> shards) {
+        this.shards = shards;
+    }
+
+    public int getShardCount() {
+        return enabled ? Math.max(1, shards.size()) : 1;
+    }
+
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public String getDriverClassName() {
+            return driverClassName;
+        }
+
+        public void setDriverClassName(String driverClassName) {
+            this.driverClassName = driverClassName;
+        }
+    }
+}
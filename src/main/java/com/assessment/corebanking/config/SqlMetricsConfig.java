@@ -0,0 +1,41 @@
+package com.assessment.corebanking.config;
+
+import com.assessment.corebanking.datasource.StatementCountingDataSource;
+import com.assessment.corebanking.datasource.StatementMetricsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@ConditionalOnProperty(prefix = "corebanking.sql-metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<StatementMetricsFilter> statementMetricsFilter(MeterRegistry meterRegistry,
+                                                                               SqlMetricsProperties properties) {
+        FilterRegistrationBean<StatementMetricsFilter> registration = new FilterRegistrationBean<>(
+            new StatementMetricsFilter(meterRegistry, properties.isResponseHeader()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
@@ -0,0 +1,26 @@
+package com.assessment.corebanking.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "corebanking.sql-metrics")
+public class SqlMetricsProperties {
+
+    private boolean enabled = true;
+    private boolean responseHeader = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isResponseHeader() {
+        return responseHeader;
+    }
+
+    public void setResponseHeader(boolean responseHeader) {
+        this.responseHeader = responseHeader;
+    }
+}
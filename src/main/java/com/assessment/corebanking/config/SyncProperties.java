@@ -0,0 +1,36 @@
+package com.assessment.corebanking.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "corebanking.sync")
+public class SyncProperties {
+
+    private Duration settleWindow = Duration.ofSeconds(2);
+    private Duration tombstoneRetention = Duration.ofDays(30);
+    private int maxPageSize = 1000;
+
+    public Duration getSettleWindow() {
+        return settleWindow;
+    }
+
+    public void setSettleWindow(Duration settleWindow) {
+        this.settleWindow = settleWindow;
+    }
+
+    public Duration getTombstoneRetention() {
+        return tombstoneRetention;
+    }
+
+    public void setTombstoneRetention(Duration tombstoneRetention) {
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    public int getMaxPageSize() {
+        return maxPageSize;
+    }
+
+    public void setMaxPageSize(int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+}
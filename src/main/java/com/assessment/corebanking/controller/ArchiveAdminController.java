@@ -0,0 +1,41 @@
+package com.assessment.corebanking.controller;
+
+import com.assessment.corebanking.bin.BinTableHolder;
+import com.assessment.corebanking.dto.CardMapper;
+import com.assessment.corebanking.dto.CardResponse;
+import com.assessment.corebanking.service.CardArchiveService;
+import com.assessment.corebanking.service.CardService;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/archive")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ArchiveAdminController {
+
+    private final CardArchiveService cardArchiveService;
+    private final CardService cardService;
+    private final BinTableHolder binTables;
+
+    public ArchiveAdminController(CardArchiveService cardArchiveService, CardService cardService,
+                                  BinTableHolder binTables) {
+        this.cardArchiveService = cardArchiveService;
+        this.cardService = cardService;
+        this.binTables = binTables;
+    }
+
+    @PostMapping
+    public Map<String, Integer> archive() {
+        return Map.of("archived", cardArchiveService.archive());
+    }
+
+    @PostMapping("/{id}/restore")
+    public CardResponse restore(@PathVariable Long id) {
+        cardArchiveService.restore(id);
+        return CardMapper.toResponse(cardService.getCardById(id), binTables.current());
+    }
+}
@@ -0,0 +1,25 @@
+package com.assessment.corebanking.controller;
+
+import com.assessment.corebanking.service.BinTableLoader;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/bin")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class BinAdminController {
+
+    private final BinTableLoader binTableLoader;
+
+    public BinAdminController(BinTableLoader binTableLoader) {
+        this.binTableLoader = binTableLoader;
+    }
+
+    @PostMapping("/reload")
+    public Map<String, Integer> reload() {
+        return Map.of("ranges", binTableLoader.reload());
+    }
+}
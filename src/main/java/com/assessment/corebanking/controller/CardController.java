@@ -1,55 +1,112 @@
 package com.assessment.corebanking.controller;
 
+import com.assessment.corebanking.bin.BinTableHolder;
+import com.assessment.corebanking.dto.CardBatchGetRequest;
+import com.assessment.corebanking.dto.CardBulkStatusRequest;
+import com.assessment.corebanking.dto.CardBulkStatusResponse;
+import com.assessment.corebanking.dto.CardChangesResponse;
+import com.assessment.corebanking.dto.CardFieldSet;
+import com.assessment.corebanking.dto.CardLookup;
 import com.assessment.corebanking.dto.CardMapper;
 import com.assessment.corebanking.dto.CardNotificationResponse;
+import com.assessment.corebanking.dto.CardPatchRequest;
 import com.assessment.corebanking.dto.CardRequest;
 import com.assessment.corebanking.dto.CardResponse;
 import com.assessment.corebanking.dto.ExternalPost;
 import com.assessment.corebanking.entity.Card;
+import com.assessment.corebanking.service.CardChangeService;
 import com.assessment.corebanking.service.CardService;
 import com.assessment.corebanking.service.ExternalApiService;
+import com.assessment.corebanking.service.IdempotencyService;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/cards")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class CardController {
 
+    static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
     private final CardService cardService;
+    private final CardChangeService cardChangeService;
     private final ExternalApiService externalApiService;
+    private final IdempotencyService idempotencyService;
+    private final BinTableHolder binTables;
 
-    public CardController(CardService cardService, ExternalApiService externalApiService) {
+    public CardController(CardService cardService,
+                          CardChangeService cardChangeService,
+                          ExternalApiService externalApiService,
+                          IdempotencyService idempotencyService,
+                          BinTableHolder binTables) {
         this.cardService = cardService;
+        this.cardChangeService = cardChangeService;
         this.externalApiService = externalApiService;
+        this.idempotencyService = idempotencyService;
+        this.binTables = binTables;
     }
 
     @GetMapping
     public Page<CardResponse> getCards(Pageable pageable) {
         Page<Card> cards = cardService.getAllCards(pageable);
-        return cards.map(CardMapper::toResponse);
+        return cards.map(this::toResponse);
+    }
+
+    @GetMapping(params = "ids")
+    public List<CardLookup<?>> getCardsByIds(@RequestParam List<Long> ids,
+                                             @RequestParam(required = false) String fields) {
+        return lookup(ids, fields == null ? null : CardFieldSet.parse(fields));
+    }
+
+    // Same lookup with the ids in the body, for batches whose query string would not fit in the request line.
+    @PostMapping("/ids:batchGet")
+    public List<CardLookup<?>> batchGetCards(@RequestBody CardBatchGetRequest request) {
+        return lookup(request.getIds(), request.getFields() == null ? null : CardFieldSet.parse(request.getFields()));
+    }
+
+    @GetMapping(params = {"fields", "!ids"})
+    public Page<Map<String, Object>> getCardFields(@RequestParam String fields, Pageable pageable) {
+        return cardService.getAllCardFields(pageable, CardFieldSet.parse(fields));
+    }
+
+    @GetMapping("/changes")
+    public CardChangesResponse getChanges(@RequestParam(required = false) String since,
+                                          @RequestParam(defaultValue = "100") int limit) {
+        return cardChangeService.getChanges(since, limit);
     }
 
     @GetMapping("/{id}")
     public CardResponse getCard(@PathVariable Long id) {
         Card card = cardService.getCardById(id);
-        return CardMapper.toResponse(card);
+        return toResponse(card);
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public Map<String, Object> getCardFields(@PathVariable Long id, @RequestParam String fields) {
+        return cardService.getCardFields(id, CardFieldSet.parse(fields));
     }
 
     @GetMapping("/{id}/notifications")
     public CardNotificationResponse getNotifications(@PathVariable Long id) {
-        cardService.getCardById(id);
+        cardService.requireCardExists(id);
         List<ExternalPost> notifications = externalApiService.getNotificationsForCard(id);
         CardNotificationResponse response = new CardNotificationResponse();
         response.setCardId(id);
@@ -58,20 +115,64 @@ public class CardController {
     }
 
     @PostMapping
-    public ResponseEntity<CardResponse> createCard(@Valid @RequestBody CardRequest request) {
-        Card created = cardService.createCard(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(CardMapper.toResponse(created));
+    public ResponseEntity<CardResponse> createCard(
+            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody CardRequest request) {
+        return idempotencyService.execute(idempotencyKey, "POST /api/cards", request, CardResponse.class, () -> {
+            Card created = cardService.createCard(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(created));
+        });
     }
 
     @PutMapping("/{id}")
-    public CardResponse updateCard(@PathVariable Long id, @Valid @RequestBody CardRequest request) {
-        Card updated = cardService.updateCard(id, request);
-        return CardMapper.toResponse(updated);
+    public ResponseEntity<CardResponse> updateCard(
+            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @PathVariable Long id,
+            @Valid @RequestBody CardRequest request) {
+        return idempotencyService.execute(idempotencyKey, "PUT /api/cards/" + id, request, CardResponse.class, () -> {
+            Card updated = cardService.updateCard(id, request);
+            return ResponseEntity.ok(toResponse(updated));
+        });
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<CardResponse> patchCard(
+            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @PathVariable Long id,
+            @RequestBody CardPatchRequest request) {
+        return idempotencyService.execute(idempotencyKey, "PATCH /api/cards/" + id, request, CardResponse.class, () -> {
+            Card patched = cardService.patchCard(id, request);
+            return ResponseEntity.ok(toResponse(patched));
+        });
+    }
+
+    @PostMapping("/status:bulk")
+    public ResponseEntity<CardBulkStatusResponse> updateStatus(
+            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody CardBulkStatusRequest request) {
+        return idempotencyService.executeChunked(idempotencyKey, "POST /api/cards/status:bulk", request,
+            CardBulkStatusResponse.class, () -> {
+                int updated = cardService.updateStatus(request);
+                return ResponseEntity.ok(new CardBulkStatusResponse(request.getStatus(), updated));
+            });
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteCard(@PathVariable Long id) {
-        cardService.deleteCard(id);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<Void> deleteCard(
+            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @PathVariable Long id) {
+        return idempotencyService.execute(idempotencyKey, "DELETE /api/cards/" + id, id, Void.class, () -> {
+            cardService.deleteCard(id);
+            return ResponseEntity.noContent().build();
+        });
+    }
+
+    private List<CardLookup<?>> lookup(List<Long> ids, CardFieldSet fieldSet) {
+        Map<Long, Card> cards = cardService.getCardsByIds(ids);
+        return CardMapper.toLookups(ids, cards, fieldSet, binTables.current());
+    }
+
+    private CardResponse toResponse(Card card) {
+        return CardMapper.toResponse(card, binTables.current());
     }
 }
@@ -0,0 +1,30 @@
+package com.assessment.corebanking.controller;
+
+import com.assessment.corebanking.dto.HotCard;
+import com.assessment.corebanking.service.HotCardTracker;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/hot-cards")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class HotCardAdminController {
+
+    private final HotCardTracker hotCardTracker;
+
+    public HotCardAdminController(HotCardTracker hotCardTracker) {
+        this.hotCardTracker = hotCardTracker;
+    }
+
+    @GetMapping
+    public List<HotCard> getHotCards(@RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > hotCardTracker.getTopK()) {
+            throw new IllegalArgumentException("limit must be between 1 and " + hotCardTracker.getTopK());
+        }
+        return hotCardTracker.hottest(limit);
+    }
+}
@@ -0,0 +1,42 @@
+package com.assessment.corebanking.controller;
+
+import com.assessment.corebanking.sharding.CardShardRebalancer;
+import com.assessment.corebanking.sharding.CardShardRouter;
+import com.assessment.corebanking.sharding.ShardMove;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/shards")
+@ConditionalOnProperty(prefix = "corebanking.sharding", name = "enabled", havingValue = "true")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ShardAdminController {
+
+    private final CardShardRouter cardShardRouter;
+    private final CardShardRebalancer cardShardRebalancer;
+
+    public ShardAdminController(CardShardRouter cardShardRouter, CardShardRebalancer cardShardRebalancer) {
+        this.cardShardRouter = cardShardRouter;
+        this.cardShardRebalancer = cardShardRebalancer;
+    }
+
+    @GetMapping
+    public Map<String, Object> getShards() {
+        Map<String, Object> body = new HashMap<>();
+        body.put("cards", cardShardRebalancer.cardCounts());
+        body.put("ranges", cardShardRouter.getRangeMap().toRangeStarts());
+        return body;
+    }
+
+    @PostMapping("/rebalance")
+    public List<ShardMove> rebalance() {
+        return cardShardRebalancer.rebalance();
+    }
+}
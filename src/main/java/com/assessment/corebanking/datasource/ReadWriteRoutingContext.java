@@ -0,0 +1,45 @@
+package com.assessment.corebanking.datasource;
+
+import java.util.function.Supplier;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class ReadWriteRoutingContext {
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private ReadWriteRoutingContext() {
+    }
+
+    public static void forcePrimary() {
+        FORCE_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryForced() {
+        return FORCE_PRIMARY.get() != null;
+    }
+
+    /**
+     * Runs {@code work} against the primary, for reads that must not lag. Routing happens when a transaction first
+     * binds a connection, so this must be called before a read-only transaction starts, not inside one: by then the
+     * connection may already point at a replica.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+            && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            throw new IllegalStateException("onPrimary must be called outside read-only transactions");
+        }
+        boolean forced = isPrimaryForced();
+        forcePrimary();
+        try {
+            return work.get();
+        } finally {
+            if (!forced) {
+                clear();
+            }
+        }
+    }
+
+    public static void clear() {
+        FORCE_PRIMARY.remove();
+    }
+}
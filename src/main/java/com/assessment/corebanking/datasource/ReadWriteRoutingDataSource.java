@@ -0,0 +1,71 @@
+package com.assessment.corebanking.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<ReplicaDataSource> replicas;
+    private final double maxLagSeconds;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Map<String, Counter> routedCounters = new HashMap<>();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<ReplicaDataSource> replicas, Duration maxLag,
+                                      MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        routedCounters.put(PRIMARY, routedCounter(meterRegistry, PRIMARY));
+        for (ReplicaDataSource replica : this.replicas) {
+            targets.put(replica.getName(), replica.getDataSource());
+            routedCounters.put(replica.getName(), routedCounter(meterRegistry, replica.getName()));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public List<ReplicaDataSource> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String target = resolveTarget();
+        routedCounters.get(target).increment();
+        return target;
+    }
+
+    private String resolveTarget() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            || ReadWriteRoutingContext.isPrimaryForced()
+            || replicas.isEmpty()) {
+            return PRIMARY;
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            ReplicaDataSource replica = replicas.get((start + i) % replicas.size());
+            if (replica.isAvailable(maxLagSeconds)) {
+                return replica.getName();
+            }
+        }
+        return PRIMARY;
+    }
+
+    private static Counter routedCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("corebanking.datasource.routed")
+            .tag("target", target)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,67 @@
+package com.assessment.corebanking.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+public class ReadWriteStickinessFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "cb-primary-until";
+
+    private final Duration stickiness;
+
+    public ReadWriteStickinessFilter(Duration stickiness) {
+        this.stickiness = stickiness;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        if (isWrite(request)) {
+            Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(now + stickiness.toMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, stickiness.toSeconds()));
+            response.addCookie(cookie);
+            ReadWriteRoutingContext.forcePrimary();
+        } else if (stickyUntil(request) > now) {
+            ReadWriteRoutingContext.forcePrimary();
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadWriteRoutingContext.clear();
+        }
+    }
+
+    private boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !HttpMethod.GET.matches(method)
+            && !HttpMethod.HEAD.matches(method)
+            && !HttpMethod.OPTIONS.matches(method);
+    }
+
+    private long stickyUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0L;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException ex) {
+                    return 0L;
+                }
+            }
+        }
+        return 0L;
+    }
+}
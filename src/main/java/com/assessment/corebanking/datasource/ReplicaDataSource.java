@@ -0,0 +1,45 @@
+package com.assessment.corebanking.datasource;
+
+import javax.sql.DataSource;
+
+public class ReplicaDataSource {
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaDataSource(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public void setHealthy(boolean healthy) {
+        this.healthy = healthy;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    public void setLagSeconds(double lagSeconds) {
+        this.lagSeconds = lagSeconds;
+    }
+
+    // No lag sample yet, or the last heartbeat read failed: how stale the replica is cannot be told, so skip it.
+    boolean isAvailable(double maxLagSeconds) {
+        return healthy && !Double.isNaN(lagSeconds) && lagSeconds <= maxLagSeconds;
+    }
+}
@@ -0,0 +1,90 @@
+package com.assessment.corebanking.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class ReplicaHealthMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaHealthMonitor.class);
+    private static final int HEARTBEAT_ID = 1;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final JdbcTemplate primary;
+    private final ReadWriteRoutingDataSource routingDataSource;
+
+    public ReplicaHealthMonitor(DataSource primary, ReadWriteRoutingDataSource routingDataSource,
+                                MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primary);
+        this.routingDataSource = routingDataSource;
+        for (ReplicaDataSource replica : routingDataSource.getReplicas()) {
+            Gauge.builder("corebanking.datasource.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                .tag("name", replica.getName())
+                .register(meterRegistry);
+            Gauge.builder("corebanking.datasource.replication.lag", replica, ReplicaDataSource::getLagSeconds)
+                .tag("name", replica.getName())
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${corebanking.datasource.routing.health-check-interval:PT5S}")
+    public void check() {
+        writeHeartbeat();
+        for (ReplicaDataSource replica : routingDataSource.getReplicas()) {
+            checkReplica(replica);
+        }
+    }
+
+    private void writeHeartbeat() {
+        long now = System.currentTimeMillis();
+        try {
+            int updated = primary.update(
+                "update replication_heartbeat set beat_at_millis = ? where id = ?", now, HEARTBEAT_ID);
+            if (updated == 0) {
+                primary.update(
+                    "insert into replication_heartbeat (id, beat_at_millis) values (?, ?)", HEARTBEAT_ID, now);
+            }
+        } catch (DataAccessException ex) {
+            LOGGER.warn("Unable to write replication heartbeat: {}", ex.getMessage());
+        }
+    }
+
+    private void checkReplica(ReplicaDataSource replica) {
+        try (Connection connection = replica.getDataSource().getConnection()) {
+            boolean valid = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            replica.setHealthy(valid);
+            replica.setLagSeconds(valid ? readLagSeconds(connection) : Double.NaN);
+        } catch (SQLException ex) {
+            if (replica.isHealthy()) {
+                LOGGER.warn("Replica {} is unavailable: {}", replica.getName(), ex.getMessage());
+            }
+            replica.setHealthy(false);
+            replica.setLagSeconds(Double.NaN);
+        }
+    }
+
+    private double readLagSeconds(Connection connection) {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "select beat_at_millis from replication_heartbeat where id = ?")) {
+            statement.setInt(1, HEARTBEAT_ID);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return Double.NaN;
+                }
+                return Math.max(0, System.currentTimeMillis() - resultSet.getLong(1)) / 1000.0;
+            }
+        } catch (SQLException ex) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.assessment.corebanking.datasource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof CallableStatement statement) {
+                return countingStatement(CallableStatement.class, statement);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return countingStatement(PreparedStatement.class, statement);
+            }
+            if (result instanceof Statement statement) {
+                return countingStatement(Statement.class, statement);
+            }
+            return result;
+        });
+    }
+
+    private static <T extends Statement> T countingStatement(Class<T> type, T statement) {
+        return proxy(type, statement, (proxy, method, args) -> {
+            StatementStats stats = StatementStats.current();
+            if (stats == null || !method.getName().startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                stats.record(System.nanoTime() - start);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(), new Class<?>[] {type},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "unwrap", "isWrapperFor", "equals", "hashCode", "toString" -> invoke(target, method, args);
+                default -> handler.invoke(proxy, method, args);
+            });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
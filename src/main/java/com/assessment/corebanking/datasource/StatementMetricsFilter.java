@@ -0,0 +1,118 @@
+package com.assessment.corebanking.datasource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class StatementMetricsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean responseHeader;
+
+    public StatementMetricsFilter(MeterRegistry meterRegistry, boolean responseHeader) {
+        this.meterRegistry = meterRegistry;
+        this.responseHeader = responseHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        StatementStats stats = StatementStats.begin();
+        StatsHeaderResponse wrapped = responseHeader ? new StatsHeaderResponse(response, stats) : null;
+        try {
+            chain.doFilter(request, wrapped != null ? wrapped : response);
+        } finally {
+            StatementStats.clear();
+            if (wrapped != null) {
+                wrapped.writeHeaders();
+            }
+            record(request, response, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, StatementStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+        String status = String.valueOf(response.getStatus());
+        DistributionSummary.builder("http.server.requests.jdbc.statements")
+            .tags("method", method, "uri", uri, "status", status)
+            .register(meterRegistry)
+            .record(stats.getStatements());
+        Timer.builder("http.server.requests.jdbc.time")
+            .tags("method", method, "uri", uri, "status", status)
+            .register(meterRegistry)
+            .record(stats.getNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private static final class StatsHeaderResponse extends HttpServletResponseWrapper {
+
+        private final StatementStats stats;
+        private boolean written;
+
+        StatsHeaderResponse(HttpServletResponse response, StatementStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        void writeHeaders() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+            setHeader(TIME_HEADER, String.format(Locale.ROOT, "%.3f", stats.getNanos() / 1_000_000.0));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
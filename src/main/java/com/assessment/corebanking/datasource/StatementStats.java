@@ -0,0 +1,46 @@
+package com.assessment.corebanking.datasource;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class StatementStats {
+
+    private static final ThreadLocal<StatementStats> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    public static StatementStats begin() {
+        StatementStats stats = new StatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static StatementStats current() {
+        return CURRENT.get();
+    }
+
+    public static void set(StatementStats stats) {
+        if (stats == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(stats);
+        }
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    void record(long elapsedNanos) {
+        statements.increment();
+        nanos.add(elapsedNanos);
+    }
+
+    public long getStatements() {
+        return statements.sum();
+    }
+
+    public long getNanos() {
+        return nanos.sum();
+    }
+}
@@ -0,0 +1,28 @@
+package com.assessment.corebanking.dto;
+
+import java.util.List;
+
+public class CardBatchGetRequest {
+    private List<Long> ids;
+
+    private String fields;
+
+    public CardBatchGetRequest() {
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public String getFields() {
+        return fields;
+    }
+
+    public void setFields(String fields) {
+        this.fields = fields;
+    }
+}
@@ -0,0 +1,55 @@
+package com.assessment.corebanking.dto;
+
+import com.assessment.corebanking.enums.CardStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public class CardBulkStatusRequest {
+    @Size(max = 100000)
+    private List<Long> ids;
+
+    @Pattern(regexp = "\\d{1,19}")
+    private String cardNumberPrefix;
+
+    private CardStatus currentStatus;
+
+    @NotNull
+    private CardStatus status;
+
+    public CardBulkStatusRequest() {
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public String getCardNumberPrefix() {
+        return cardNumberPrefix;
+    }
+
+    public void setCardNumberPrefix(String cardNumberPrefix) {
+        this.cardNumberPrefix = cardNumberPrefix;
+    }
+
+    public CardStatus getCurrentStatus() {
+        return currentStatus;
+    }
+
+    public void setCurrentStatus(CardStatus currentStatus) {
+        this.currentStatus = currentStatus;
+    }
+
+    public CardStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(CardStatus status) {
+        this.status = status;
+    }
+}
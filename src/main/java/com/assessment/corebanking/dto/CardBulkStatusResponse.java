@@ -0,0 +1,32 @@
+package com.assessment.corebanking.dto;
+
+import com.assessment.corebanking.enums.CardStatus;
+
+public class CardBulkStatusResponse {
+    private CardStatus status;
+    private int updated;
+
+    public CardBulkStatusResponse() {
+    }
+
+    public CardBulkStatusResponse(CardStatus status, int updated) {
+        this.status = status;
+        this.updated = updated;
+    }
+
+    public CardStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(CardStatus status) {
+        this.status = status;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+}
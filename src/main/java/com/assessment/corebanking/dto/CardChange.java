@@ -0,0 +1,63 @@
+package com.assessment.corebanking.dto;
+
+import com.assessment.corebanking.enums.CardChangeType;
+import java.time.LocalDateTime;
+
+public class CardChange {
+    private CardChangeType type;
+    private Long id;
+    private LocalDateTime changedAt;
+    private CardResponse card;
+
+    public CardChange() {
+    }
+
+    public static CardChange upsert(CardResponse card) {
+        CardChange change = new CardChange();
+        change.setType(CardChangeType.UPSERT);
+        change.setId(card.getId());
+        change.setChangedAt(card.getUpdatedAt());
+        change.setCard(card);
+        return change;
+    }
+
+    public static CardChange delete(Long id, LocalDateTime deletedAt) {
+        CardChange change = new CardChange();
+        change.setType(CardChangeType.DELETE);
+        change.setId(id);
+        change.setChangedAt(deletedAt);
+        return change;
+    }
+
+    public CardChangeType getType() {
+        return type;
+    }
+
+    public void setType(CardChangeType type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    public CardResponse getCard() {
+        return card;
+    }
+
+    public void setCard(CardResponse card) {
+        this.card = card;
+    }
+}
@@ -0,0 +1,42 @@
+package com.assessment.corebanking.dto;
+
+import java.util.List;
+
+public class CardChangesResponse {
+    private List<CardChange> changes;
+    private String nextToken;
+    private boolean hasMore;
+
+    public CardChangesResponse() {
+    }
+
+    public CardChangesResponse(List<CardChange> changes, String nextToken, boolean hasMore) {
+        this.changes = changes;
+        this.nextToken = nextToken;
+        this.hasMore = hasMore;
+    }
+
+    public List<CardChange> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<CardChange> changes) {
+        this.changes = changes;
+    }
+
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public void setNextToken(String nextToken) {
+        this.nextToken = nextToken;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,64 @@
+package com.assessment.corebanking.dto;
+
+import com.assessment.corebanking.enums.CardField;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class CardFieldSet {
+
+    private static final int MAX_LENGTH = 256;
+    private static final int MAX_CACHED = 512;
+    private static final Map<String, CardFieldSet> CACHE = new ConcurrentHashMap<>();
+
+    private final List<CardField> fields;
+
+    private CardFieldSet(List<CardField> fields) {
+        this.fields = Collections.unmodifiableList(fields);
+    }
+
+    public static CardFieldSet parse(String fields) {
+        CardFieldSet cached = CACHE.get(fields);
+        if (cached != null) {
+            return cached;
+        }
+        if (fields.isBlank() || fields.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("fields must be a comma-separated list of card fields");
+        }
+        EnumSet<CardField> selected = EnumSet.noneOf(CardField.class);
+        for (String name : fields.split(",")) {
+            selected.add(CardField.fromName(name.trim()));
+        }
+        CardFieldSet parsed = new CardFieldSet(new ArrayList<>(selected));
+        if (CACHE.size() < MAX_CACHED) {
+            CACHE.putIfAbsent(fields, parsed);
+        }
+        return parsed;
+    }
+
+    public List<CardField> getFields() {
+        return fields;
+    }
+
+    public CardFieldSet including(Iterable<CardField> extra) {
+        EnumSet<CardField> merged = EnumSet.noneOf(CardField.class);
+        merged.addAll(fields);
+        extra.forEach(merged::add);
+        return merged.size() == fields.size() ? this : new CardFieldSet(new ArrayList<>(merged));
+    }
+
+    public Map<String, Object> select(Map<String, Object> row) {
+        if (row.size() == fields.size()) {
+            return row;
+        }
+        Map<String, Object> selected = new LinkedHashMap<>();
+        for (CardField field : fields) {
+            selected.put(field.getName(), row.get(field.getName()));
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,48 @@
+package com.assessment.corebanking.dto;
+
+public class CardLookup<T> {
+    private Long id;
+    private boolean found;
+    private T card;
+
+    public CardLookup() {
+    }
+
+    public static <T> CardLookup<T> found(Long id, T card) {
+        CardLookup<T> lookup = new CardLookup<>();
+        lookup.setId(id);
+        lookup.setFound(true);
+        lookup.setCard(card);
+        return lookup;
+    }
+
+    public static <T> CardLookup<T> notFound(Long id) {
+        CardLookup<T> lookup = new CardLookup<>();
+        lookup.setId(id);
+        return lookup;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public boolean isFound() {
+        return found;
+    }
+
+    public void setFound(boolean found) {
+        this.found = found;
+    }
+
+    public T getCard() {
+        return card;
+    }
+
+    public void setCard(T card) {
+        this.card = card;
+    }
+}
@@ -1,6 +1,13 @@
 package com.assessment.corebanking.dto;
 
+import com.assessment.corebanking.bin.BinInfo;
+import com.assessment.corebanking.bin.BinTable;
 import com.assessment.corebanking.entity.Card;
+import com.assessment.corebanking.enums.CardField;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 public final class CardMapper {
     private CardMapper() {
@@ -11,7 +18,8 @@ public final class CardMapper {
             return null;
         }
         Card card = new Card();
-        card.setCardNumber(request.getCardNumber());
+        card.setMaskedNumber(mask(request.getCardNumber()));
+        card.setBin(bin(request.getCardNumber()));
         card.setCardholderName(request.getCardholderName());
         card.setExpiryDate(request.getExpiryDate());
         card.setStatus(request.getStatus());
@@ -25,7 +33,8 @@ public final class CardMapper {
         if (request == null || card == null) {
             return;
         }
-        card.setCardNumber(request.getCardNumber());
+        card.setMaskedNumber(mask(request.getCardNumber()));
+        card.setBin(bin(request.getCardNumber()));
         card.setCardholderName(request.getCardholderName());
         card.setExpiryDate(request.getExpiryDate());
         card.setStatus(request.getStatus());
@@ -34,13 +43,47 @@ public final class CardMapper {
         card.setBalance(request.getBalance());
     }
 
-    public static CardResponse toResponse(Card card) {
+    public static void applyPatch(CardPatchRequest patch, Card card) {
+        if (patch == null || card == null) {
+            return;
+        }
+        if (patch.has(CardPatchRequest.Field.CARD_NUMBER)) {
+            card.setMaskedNumber(mask(patch.getCardNumber()));
+            card.setBin(bin(patch.getCardNumber()));
+        }
+        if (patch.has(CardPatchRequest.Field.CARDHOLDER_NAME)) {
+            card.setCardholderName(patch.getCardholderName());
+        }
+        if (patch.has(CardPatchRequest.Field.EXPIRY_DATE)) {
+            card.setExpiryDate(patch.getExpiryDate());
+        }
+        if (patch.has(CardPatchRequest.Field.STATUS)) {
+            card.setStatus(patch.getStatus());
+        }
+        if (patch.has(CardPatchRequest.Field.CARD_TYPE)) {
+            card.setCardType(patch.getCardType());
+        }
+        if (patch.has(CardPatchRequest.Field.CREDIT_LIMIT)) {
+            card.setCreditLimit(patch.getCreditLimit());
+        }
+        if (patch.has(CardPatchRequest.Field.BALANCE)) {
+            card.setBalance(patch.getBalance());
+        }
+    }
+
+    public static CardResponse toResponse(Card card, BinTable binTable) {
         if (card == null) {
             return null;
         }
         CardResponse response = new CardResponse();
         response.setId(card.getId());
-        response.setCardNumber(mask(card.getCardNumber()));
+        response.setCardNumber(card.getMaskedNumber());
+        BinInfo bin = binTable.lookup(card.getBin());
+        if (bin != null) {
+            response.setNetwork(bin.network());
+            response.setIssuer(bin.issuer());
+            response.setProduct(bin.product());
+        }
         response.setCardholderName(card.getCardholderName());
         response.setExpiryDate(card.getExpiryDate());
         response.setStatus(card.getStatus());
@@ -52,6 +95,67 @@ public final class CardMapper {
         return response;
     }
 
+    // Same keys and values as the projection queries, for callers that already hold the whole card.
+    public static Map<String, Object> toFields(Card card, CardFieldSet fieldSet, BinTable binTable) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (CardField field : fieldSet.getFields()) {
+            row.put(field.getName(), switch (field) {
+                case ID -> card.getId();
+                case CARD_NUMBER -> card.getMaskedNumber();
+                case CARDHOLDER_NAME -> card.getCardholderName();
+                case EXPIRY_DATE -> card.getExpiryDate();
+                case STATUS -> card.getStatus();
+                case CARD_TYPE -> card.getCardType();
+                case CREDIT_LIMIT -> card.getCreditLimit();
+                case BALANCE -> card.getBalance();
+                case CREATED_AT -> card.getCreatedAt();
+                case UPDATED_AT -> card.getUpdatedAt();
+                case NETWORK, ISSUER, PRODUCT -> binField(field, card.getBin(), binTable);
+            });
+        }
+        return row;
+    }
+
+    // Request order, with a not-found entry for each missing id. A fieldset trims each card that was found.
+    public static List<CardLookup<?>> toLookups(List<Long> ids, Map<Long, Card> cards, CardFieldSet fieldSet,
+                                                BinTable binTable) {
+        List<CardLookup<?>> lookups = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Card card = cards.get(id);
+            if (card == null) {
+                lookups.add(CardLookup.notFound(id));
+            } else {
+                lookups.add(CardLookup.found(id, fieldSet == null
+                    ? toResponse(card, binTable) : toFields(card, fieldSet, binTable)));
+            }
+        }
+        return lookups;
+    }
+
+    public static Object binField(CardField field, String bin, BinTable binTable) {
+        BinInfo info = binTable.lookup(bin);
+        if (info == null) {
+            return null;
+        }
+        return switch (field) {
+            case NETWORK -> info.network();
+            case ISSUER -> info.issuer();
+            case PRODUCT -> info.product();
+            default -> throw new IllegalArgumentException(field.getName() + " is not derived from the BIN");
+        };
+    }
+
+    /**
+     * Keeps the first eight digits of numbers with at least sixteen digits and the first six otherwise, the most
+     * PCI DSS allows to be stored alongside the last four.
+     */
+    private static String bin(String cardNumber) {
+        if (cardNumber == null || cardNumber.length() < 12) {
+            return null;
+        }
+        return cardNumber.substring(0, cardNumber.length() >= 16 ? BinTable.KEY_DIGITS : 6);
+    }
+
     private static String mask(String cardNumber) {
         if (cardNumber == null) {
             return null;
@@ -0,0 +1,105 @@
+package com.assessment.corebanking.dto;
+
+import com.assessment.corebanking.enums.CardStatus;
+import com.assessment.corebanking.enums.CardType;
+import com.assessment.corebanking.money.Money;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+public class CardPatchRequest {
+
+    public enum Field {
+        CARD_NUMBER,
+        CARDHOLDER_NAME,
+        EXPIRY_DATE,
+        STATUS,
+        CARD_TYPE,
+        CREDIT_LIMIT,
+        BALANCE
+    }
+
+    private final Set<Field> present = EnumSet.noneOf(Field.class);
+
+    private String cardNumber;
+    private String cardholderName;
+    private LocalDate expiryDate;
+    private CardStatus status;
+    private CardType cardType;
+    private Money creditLimit;
+    private Money balance;
+
+    public CardPatchRequest() {
+    }
+
+    public boolean has(Field field) {
+        return present.contains(field);
+    }
+
+    public Set<Field> presentFields() {
+        return Set.copyOf(present);
+    }
+
+    public String getCardNumber() {
+        return cardNumber;
+    }
+
+    public void setCardNumber(String cardNumber) {
+        this.cardNumber = cardNumber;
+        present.add(Field.CARD_NUMBER);
+    }
+
+    public String getCardholderName() {
+        return cardholderName;
+    }
+
+    public void setCardholderName(String cardholderName) {
+        this.cardholderName = cardholderName;
+        present.add(Field.CARDHOLDER_NAME);
+    }
+
+    public LocalDate getExpiryDate() {
+        return expiryDate;
+    }
+
+    public void setExpiryDate(LocalDate expiryDate) {
+        this.expiryDate = expiryDate;
+        present.add(Field.EXPIRY_DATE);
+    }
+
+    public CardStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(CardStatus status) {
+        this.status = status;
+        present.add(Field.STATUS);
+    }
+
+    public CardType getCardType() {
+        return cardType;
+    }
+
+    public void setCardType(CardType cardType) {
+        this.cardType = cardType;
+        present.add(Field.CARD_TYPE);
+    }
+
+    public Money getCreditLimit() {
+        return creditLimit;
+    }
+
+    public void setCreditLimit(Money creditLimit) {
+        this.creditLimit = creditLimit;
+        present.add(Field.CREDIT_LIMIT);
+    }
+
+    public Money getBalance() {
+        return balance;
+    }
+
+    public void setBalance(Money balance) {
+        this.balance = balance;
+        present.add(Field.BALANCE);
+    }
+}
@@ -2,9 +2,9 @@ package com.assessment.corebanking.dto;
 
 import com.assessment.corebanking.enums.CardStatus;
 import com.assessment.corebanking.enums.CardType;
+import com.assessment.corebanking.money.Money;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 
 public class CardRequest {
@@ -23,10 +23,10 @@ public class CardRequest {
     @NotNull
     private CardType cardType;
 
-    private BigDecimal creditLimit;
+    private Money creditLimit;
 
     @NotNull
-    private BigDecimal balance;
+    private Money balance;
 
     public CardRequest() {
     }
@@ -71,19 +71,19 @@ public class CardRequest {
         this.cardType = cardType;
     }
 
-    public BigDecimal getCreditLimit() {
+    public Money getCreditLimit() {
         return creditLimit;
     }
 
-    public void setCreditLimit(BigDecimal creditLimit) {
+    public void setCreditLimit(Money creditLimit) {
         this.creditLimit = creditLimit;
     }
 
-    public BigDecimal getBalance() {
+    public Money getBalance() {
         return balance;
     }
 
-    public void setBalance(BigDecimal balance) {
+    public void setBalance(Money balance) {
         this.balance = balance;
     }
 }
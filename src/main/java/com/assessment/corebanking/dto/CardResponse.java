@@ -2,19 +2,22 @@ package com.assessment.corebanking.dto;
 
 import com.assessment.corebanking.enums.CardStatus;
 import com.assessment.corebanking.enums.CardType;
-import java.math.BigDecimal;
+import com.assessment.corebanking.money.Money;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 public class CardResponse {
     private Long id;
     private String cardNumber;
+    private String network;
+    private String issuer;
+    private CardType product;
     private String cardholderName;
     private LocalDate expiryDate;
     private CardStatus status;
     private CardType cardType;
-    private BigDecimal creditLimit;
-    private BigDecimal balance;
+    private Money creditLimit;
+    private Money balance;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -37,6 +40,30 @@ public class CardResponse {
         this.cardNumber = cardNumber;
     }
 
+    public String getNetwork() {
+        return network;
+    }
+
+    public void setNetwork(String network) {
+        this.network = network;
+    }
+
+    public String getIssuer() {
+        return issuer;
+    }
+
+    public void setIssuer(String issuer) {
+        this.issuer = issuer;
+    }
+
+    public CardType getProduct() {
+        return product;
+    }
+
+    public void setProduct(CardType product) {
+        this.product = product;
+    }
+
     public String getCardholderName() {
         return cardholderName;
     }
@@ -69,19 +96,19 @@ public class CardResponse {
         this.cardType = cardType;
     }
 
-    public BigDecimal getCreditLimit() {
+    public Money getCreditLimit() {
         return creditLimit;
     }
 
-    public void setCreditLimit(BigDecimal creditLimit) {
+    public void setCreditLimit(Money creditLimit) {
         this.creditLimit = creditLimit;
     }
 
-    public BigDecimal getBalance() {
+    public Money getBalance() {
         return balance;
     }
 
-    public void setBalance(BigDecimal balance) {
+    public void setBalance(Money balance) {
         this.balance = balance;
     }
 
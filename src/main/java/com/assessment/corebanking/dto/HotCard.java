@@ -0,0 +1,40 @@
+package com.assessment.corebanking.dto;
+
+public class HotCard {
+    private Long id;
+    private long hits;
+    private double ratePerSecond;
+
+    public HotCard() {
+    }
+
+    public HotCard(Long id, long hits, double ratePerSecond) {
+        this.id = id;
+        this.hits = hits;
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public void setHits(long hits) {
+        this.hits = hits;
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public void setRatePerSecond(double ratePerSecond) {
+        this.ratePerSecond = ratePerSecond;
+    }
+}
@@ -0,0 +1,133 @@
+package com.assessment.corebanking.entity;
+
+import com.assessment.corebanking.enums.CardStatus;
+import com.assessment.corebanking.enums.CardType;
+import com.assessment.corebanking.money.Money;
+import com.assessment.corebanking.money.MoneyAttributeConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * A card moved out of {@code cards} by {@code CardArchiveService}. Rows are written and removed with plain SQL,
+ * so the entity is read-only and its columns mirror {@link Card} plus {@code archivedAt}.
+ */
+@Entity
+@Immutable
+@Table(name = "cards_archive")
+public class ArchivedCard {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String maskedNumber;
+
+    @Column(length = 8)
+    private String bin;
+
+    @Column(nullable = false)
+    private String cardholderName;
+
+    @Column(nullable = false)
+    private LocalDate expiryDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CardStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CardType cardType;
+
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(precision = 19, scale = 2)
+    private Money creditLimit;
+
+    @Convert(converter = MoneyAttributeConverter.class)
+    @Column(nullable = false, precision = 19, scale = 2)
+    private Money balance;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    public ArchivedCard() {
+    }
+
+    public Card toCard() {
+        Card card = new Card();
+        card.setId(id);
+        card.setMaskedNumber(maskedNumber);
+        card.setBin(bin);
+        card.setCardholderName(cardholderName);
+        card.setExpiryDate(expiryDate);
+        card.setStatus(status);
+        card.setCardType(cardType);
+        card.setCreditLimit(creditLimit);
+        card.setBalance(balance);
+        card.setCreatedAt(createdAt);
+        card.setUpdatedAt(updatedAt);
+        return card;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getMaskedNumber() {
+        return maskedNumber;
+    }
+
+    public String getBin() {
+        return bin;
+    }
+
+    public String getCardholderName() {
+        return cardholderName;
+    }
+
+    public LocalDate getExpiryDate() {
+        return expiryDate;
+    }
+
+    public CardStatus getStatus() {
+        return status;
+    }
+
+    public CardType getCardType() {
+        return cardType;
+    }
+
+    public Money getCreditLimit() {
+        return creditLimit;
+    }
+
+    public Money getBalance() {
+        return balance;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -2,7 +2,10 @@ package com.assessment.corebanking.entity;
 
 import com.assessment.corebanking.enums.CardStatus;
 import com.assessment.corebanking.enums.CardType;
+import com.assessment.corebanking.money.Money;
+import com.assessment.corebanking.money.MoneyAttributeConverter;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
@@ -10,18 +13,20 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
-@Table(name = "cards")
+@DynamicUpdate
+@Table(name = "cards", indexes = @Index(name = "idx_cards_updated_at_id", columnList = "updatedAt, id"))
 @EntityListeners(AuditingEntityListener.class)
 public class Card {
 
@@ -30,8 +35,11 @@ public class Card {
     private Long id;
 
     @NotBlank
-    @Column(nullable = false, unique = true)
-    private String cardNumber;
+    @Column(nullable = false)
+    private String maskedNumber;
+
+    @Column(length = 8)
+    private String bin;
 
     @NotBlank
     @Column(nullable = false)
@@ -51,12 +59,14 @@ public class Card {
     @Column(nullable = false)
     private CardType cardType;
 
+    @Convert(converter = MoneyAttributeConverter.class)
     @Column(precision = 19, scale = 2)
-    private BigDecimal creditLimit;
+    private Money creditLimit;
 
     @NotNull
+    @Convert(converter = MoneyAttributeConverter.class)
     @Column(nullable = false, precision = 19, scale = 2)
-    private BigDecimal balance;
+    private Money balance;
 
     @CreatedDate
     @Column(nullable = false, updatable = false)
@@ -77,12 +87,20 @@ public class Card {
         this.id = id;
     }
 
-    public String getCardNumber() {
-        return cardNumber;
+    public String getMaskedNumber() {
+        return maskedNumber;
+    }
+
+    public void setMaskedNumber(String maskedNumber) {
+        this.maskedNumber = maskedNumber;
+    }
+
+    public String getBin() {
+        return bin;
     }
 
-    public void setCardNumber(String cardNumber) {
-        this.cardNumber = cardNumber;
+    public void setBin(String bin) {
+        this.bin = bin;
     }
 
     public String getCardholderName() {
@@ -117,19 +135,19 @@ public class Card {
         this.cardType = cardType;
     }
 
-    public BigDecimal getCreditLimit() {
+    public Money getCreditLimit() {
         return creditLimit;
     }
 
-    public void setCreditLimit(BigDecimal creditLimit) {
+    public void setCreditLimit(Money creditLimit) {
         this.creditLimit = creditLimit;
     }
 
-    public BigDecimal getBalance() {
+    public Money getBalance() {
         return balance;
     }
 
-    public void setBalance(BigDecimal balance) {
+    public void setBalance(Money balance) {
         this.balance = balance;
     }
 
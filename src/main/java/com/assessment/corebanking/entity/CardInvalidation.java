@@ -0,0 +1,46 @@
+package com.assessment.corebanking.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * One row per changed card, appended in the writing transaction and polled by every instance's near cache.
+ * Rows are written and read with plain SQL; the entity only declares the table.
+ */
+@Entity
+@Immutable
+@Table(name = "card_invalidations", indexes = @Index(name = "idx_card_invalidations_created_at", columnList = "createdAt"))
+public class CardInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long cardId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public CardInvalidation() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getCardId() {
+        return cardId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,64 @@
+package com.assessment.corebanking.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+@Entity
+@Table(name = "card_pans")
+public class CardPan implements Persistable<Long> {
+
+    @Id
+    private Long cardId;
+
+    @Column(nullable = false, unique = true)
+    private String pan;
+
+    @Transient
+    private boolean isNew = true;
+
+    public CardPan() {
+    }
+
+    public CardPan(Long cardId, String pan) {
+        this.cardId = cardId;
+        this.pan = pan;
+    }
+
+    @Override
+    public Long getId() {
+        return cardId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public Long getCardId() {
+        return cardId;
+    }
+
+    public void setCardId(Long cardId) {
+        this.cardId = cardId;
+    }
+
+    public String getPan() {
+        return pan;
+    }
+
+    public void setPan(String pan) {
+        this.pan = pan;
+    }
+}
@@ -0,0 +1,41 @@
+package com.assessment.corebanking.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "card_shard_ranges")
+public class CardShardRange {
+
+    @Id
+    private Long rangeStart;
+
+    @Column(nullable = false)
+    private int shard;
+
+    public CardShardRange() {
+    }
+
+    public CardShardRange(Long rangeStart, int shard) {
+        this.rangeStart = rangeStart;
+        this.shard = shard;
+    }
+
+    public Long getRangeStart() {
+        return rangeStart;
+    }
+
+    public void setRangeStart(Long rangeStart) {
+        this.rangeStart = rangeStart;
+    }
+
+    public int getShard() {
+        return shard;
+    }
+
+    public void setShard(int shard) {
+        this.shard = shard;
+    }
+}
@@ -0,0 +1,66 @@
+package com.assessment.corebanking.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import org.springframework.data.domain.Persistable;
+
+@Entity
+@Table(name = "card_tombstones", indexes = @Index(name = "idx_card_tombstones_deleted_at_id", columnList = "deletedAt, cardId"))
+public class CardTombstone implements Persistable<Long> {
+
+    @Id
+    private Long cardId;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    public CardTombstone() {
+    }
+
+    public CardTombstone(Long cardId, LocalDateTime deletedAt) {
+        this.cardId = cardId;
+        this.deletedAt = deletedAt;
+    }
+
+    @Override
+    public Long getId() {
+        return cardId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public Long getCardId() {
+        return cardId;
+    }
+
+    public void setCardId(Long cardId) {
+        this.cardId = cardId;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+}
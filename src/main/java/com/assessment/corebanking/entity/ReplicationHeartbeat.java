@@ -0,0 +1,36 @@
+package com.assessment.corebanking.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "replication_heartbeat")
+public class ReplicationHeartbeat {
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private long beatAtMillis;
+
+    public ReplicationHeartbeat() {
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public long getBeatAtMillis() {
+        return beatAtMillis;
+    }
+
+    public void setBeatAtMillis(long beatAtMillis) {
+        this.beatAtMillis = beatAtMillis;
+    }
+}
@@ -0,0 +1,6 @@
+package com.assessment.corebanking.enums;
+
+public enum AuditOverflowPolicy {
+    DROP,
+    BLOCK
+}
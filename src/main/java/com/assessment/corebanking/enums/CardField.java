@@ -0,0 +1,75 @@
+package com.assessment.corebanking.enums;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public enum CardField {
+    ID("id", "id"),
+    CARD_NUMBER("cardNumber", "maskedNumber"),
+    CARDHOLDER_NAME("cardholderName", "cardholderName"),
+    EXPIRY_DATE("expiryDate", "expiryDate"),
+    STATUS("status", "status"),
+    CARD_TYPE("cardType", "cardType"),
+    CREDIT_LIMIT("creditLimit", "creditLimit"),
+    BALANCE("balance", "balance"),
+    CREATED_AT("createdAt", "createdAt"),
+    UPDATED_AT("updatedAt", "updatedAt"),
+    NETWORK("network", "bin", true),
+    ISSUER("issuer", "bin", true),
+    PRODUCT("product", "bin", true);
+
+    private static final Map<String, CardField> BY_NAME = new HashMap<>();
+    private static final Map<String, CardField> BY_ATTRIBUTE = new HashMap<>();
+
+    static {
+        for (CardField field : values()) {
+            BY_NAME.put(field.name, field);
+            if (!field.fromBin) {
+                BY_ATTRIBUTE.put(field.attribute, field);
+            }
+        }
+    }
+
+    private final String name;
+    private final String attribute;
+    private final boolean fromBin;
+
+    CardField(String name, String attribute) {
+        this(name, attribute, false);
+    }
+
+    // Read from the stored BIN and classified against the current BIN table; not sortable.
+    CardField(String name, String attribute, boolean fromBin) {
+        this.name = name;
+        this.attribute = attribute;
+        this.fromBin = fromBin;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public boolean isFromBin() {
+        return fromBin;
+    }
+
+    public static CardField fromName(String name) {
+        CardField field = BY_NAME.get(name);
+        if (field == null) {
+            throw new IllegalArgumentException("Unknown field: " + name);
+        }
+        return field;
+    }
+
+    public static CardField fromAttribute(String attribute) {
+        CardField field = BY_ATTRIBUTE.get(attribute);
+        if (field == null) {
+            throw new IllegalArgumentException("Unknown sort property: " + attribute);
+        }
+        return field;
+    }
+}
@@ -0,0 +1,7 @@
+package com.assessment.corebanking.enums;
+
+public enum EndpointClass {
+    READ,
+    WRITE,
+    NOTIFICATIONS
+}
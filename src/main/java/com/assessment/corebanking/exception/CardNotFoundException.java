@@ -5,7 +5,7 @@ public class CardNotFoundException extends RuntimeException {
     private final Long cardId;
 
     public CardNotFoundException(Long cardId) {
-        super("Card not found: " + cardId);
+        super("Card not found: " + cardId, null, false, false);
         this.cardId = cardId;
     }
 
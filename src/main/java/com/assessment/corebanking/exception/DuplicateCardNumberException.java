@@ -0,0 +1,10 @@
+package com.assessment.corebanking.exception;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+public class DuplicateCardNumberException extends DataIntegrityViolationException {
+
+    public DuplicateCardNumberException() {
+        super("Card number already exists");
+    }
+}
@@ -1,24 +1,51 @@
 package com.assessment.corebanking.exception;
 
+import io.r2dbc.spi.R2dbcException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.MethodNotAllowedException;
+import org.springframework.web.server.ServerWebInputException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final byte[] CARD_NOT_FOUND_PREFIX =
+        "{\"error\":\"Card not found\",\"id\":".getBytes(StandardCharsets.US_ASCII);
+    private static final Map<String, Object> MALFORMED_BODY = Map.of("error", "Malformed request body");
+    private static final Map<String, Object> DUPLICATE_CARD_NUMBER_BODY = Map.of("error", "Card number already exists");
+    private static final Map<String, Object> CONFLICT_BODY = Map.of("error", "Request conflicts with existing data");
+    private static final Map<String, Object> METHOD_NOT_ALLOWED_BODY = Map.of("error", "Method not allowed");
+    private static final Map<String, Object> EXTERNAL_API_BODY = Map.of("error", "External service unavailable");
+    private static final Map<String, Object> INTERNAL_ERROR_BODY = Map.of("error", "Internal server error");
+    private static final Map<String, Object> WRITE_OUTCOME_UNKNOWN_BODY = Map.of("error",
+        "The write may or may not have been applied; retry with an Idempotency-Key header to avoid applying it twice");
+
+    // The hottest error path: the JSON around the id is encoded once, so a miss only formats a number.
     @ExceptionHandler(CardNotFoundException.class)
-    public ResponseEntity<Map<String, Object>> handleCardNotFound(CardNotFoundException ex) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("error", "Card not found");
-        body.put("id", ex.getCardId());
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
+    public ResponseEntity<byte[]> handleCardNotFound(CardNotFoundException ex) {
+        byte[] id = String.valueOf(ex.getCardId()).getBytes(StandardCharsets.US_ASCII);
+        byte[] body = Arrays.copyOf(CARD_NOT_FOUND_PREFIX, CARD_NOT_FOUND_PREFIX.length + id.length + 1);
+        System.arraycopy(id, 0, body, CARD_NOT_FOUND_PREFIX.length, id.length);
+        body[body.length - 1] = '}';
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -31,6 +58,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(body);
     }
 
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Map<String, Object>> handleValidation(WebExchangeBindException ex) {
+        List<Map<String, String>> errors = ex.getBindingResult().getFieldErrors().stream()
+            .map(this::toError)
+            .toList();
+        Map<String, Object> body = new HashMap<>();
+        body.put("errors", errors);
+        return ResponseEntity.badRequest().body(body);
+    }
+
+    @ExceptionHandler({HttpMessageNotReadableException.class, ServerWebInputException.class})
+    public ResponseEntity<Map<String, Object>> handleNotReadable(Exception ex) {
+        return ResponseEntity.badRequest().body(MALFORMED_BODY);
+    }
+
+    @ExceptionHandler({HttpRequestMethodNotSupportedException.class, MethodNotAllowedException.class})
+    public ResponseEntity<Map<String, Object>> handleMethodNotAllowed(ErrorResponse ex) {
+        return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).headers(ex.getHeaders()).body(METHOD_NOT_ALLOWED_BODY);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException ex) {
         Map<String, Object> body = new HashMap<>();
@@ -38,18 +85,72 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(body);
     }
 
+    @ExceptionHandler(IdempotencyConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleIdempotencyConflict(IdempotencyConflictException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
+    @ExceptionHandler(DuplicateCardNumberException.class)
+    public ResponseEntity<Map<String, Object>> handleDuplicateCardNumber(DuplicateCardNumberException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(DUPLICATE_CARD_NUMBER_BODY);
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Map<String, Object>> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        if (!isUniqueViolation(ex)) {
+            return handleFallback(ex);
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(CONFLICT_BODY);
+    }
+
+    @ExceptionHandler(SyncTokenExpiredException.class)
+    public ResponseEntity<Map<String, Object>> handleSyncTokenExpired(SyncTokenExpiredException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.GONE).body(body);
+    }
+
     @ExceptionHandler(ExternalApiException.class)
     public ResponseEntity<Map<String, Object>> handleExternalApi(ExternalApiException ex) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("error", "External service unavailable");
-        return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(body);
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(EXTERNAL_API_BODY);
+    }
+
+    @ExceptionHandler(WriteOutcomeUnknownException.class)
+    public ResponseEntity<Map<String, Object>> handleWriteOutcomeUnknown(WriteOutcomeUnknownException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(WRITE_OUTCOME_UNKNOWN_BODY);
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleFallback(Exception ex) {
-        Map<String, Object> body = new HashMap<>();
-        body.put("error", "Internal server error");
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(body);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(INTERNAL_ERROR_BODY);
+    }
+
+    /**
+     * Unique and primary key violations: SQLState 23505 (H2, PostgreSQL) or SQL Server errors 2627 and 2601,
+     * raised through JDBC or R2DBC. Other integrity violations, such as a missing NOT NULL value, are server
+     * faults rather than conflicts.
+     */
+    private static boolean isUniqueViolation(DataIntegrityViolationException ex) {
+        if (ex instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && isUniqueViolation(sql.getSQLState(), sql.getErrorCode())) {
+                return true;
+            }
+            if (cause instanceof R2dbcException r2dbc && isUniqueViolation(r2dbc.getSqlState(), r2dbc.getErrorCode())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isUniqueViolation(String sqlState, int errorCode) {
+        return "23505".equals(sqlState) || errorCode == 2627 || errorCode == 2601;
     }
 
     private Map<String, String> toError(FieldError error) {
@@ -0,0 +1,8 @@
+package com.assessment.corebanking.exception;
+
+public class SyncTokenExpiredException extends RuntimeException {
+
+    public SyncTokenExpiredException() {
+        super("Sync token is older than the tombstone retention; a full resync is required");
+    }
+}
@@ -0,0 +1,8 @@
+package com.assessment.corebanking.exception;
+
+public class WriteOutcomeUnknownException extends RuntimeException {
+
+    public WriteOutcomeUnknownException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,29 @@
+package com.assessment.corebanking.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(CardOperationEvent.NAME)
+@Label("Card Operation")
+@Description("A call into CardService")
+@Category({"Core Banking", "Cards"})
+@StackTrace(false)
+public class CardOperationEvent extends Event {
+
+    public static final String NAME = "corebanking.CardOperation";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Card Id")
+    @Description("The card the operation targets, or 0 for operations on several cards")
+    public long cardId;
+
+    @Label("Outcome")
+    @Description("OK, or the simple name of the exception thrown")
+    public String outcome;
+}
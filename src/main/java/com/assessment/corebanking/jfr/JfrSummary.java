@@ -0,0 +1,97 @@
+package com.assessment.corebanking.jfr;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Summarises the core banking events in a JFR recording per event type and operation:
+ *
+ * <pre>java -cp target/classes com.assessment.corebanking.jfr.JfrSummary recording.jfr</pre>
+ */
+public final class JfrSummary {
+
+    private static final String PREFIX = "corebanking.";
+
+    private final Map<String, Operation> operations = new TreeMap<>();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: JfrSummary <recording.jfr>");
+            System.exit(2);
+        }
+        summarize(Path.of(args[0])).print(System.out);
+    }
+
+    public static JfrSummary summarize(Path recording) throws IOException {
+        JfrSummary summary = new JfrSummary();
+        for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+            String type = event.getEventType().getName();
+            if (type.startsWith(PREFIX)) {
+                summary.add(type.substring(PREFIX.length()), event.getString("operation"),
+                    event.getString("outcome"), event.getDuration().toNanos());
+            }
+        }
+        return summary;
+    }
+
+    void add(String type, String operation, String outcome, long nanos) {
+        operations.computeIfAbsent(type + " " + operation, key -> new Operation()).add(outcome, nanos);
+    }
+
+    public Map<String, Operation> getOperations() {
+        return operations;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%-60s %8s %9s %9s %9s %9s  %s%n", "operation", "count", "avg ms", "p50 ms", "p99 ms", "max ms",
+            "outcomes");
+        operations.forEach((name, operation) -> out.printf("%-60s %8d %9.3f %9.3f %9.3f %9.3f  %s%n",
+            name, operation.count(), operation.averageMillis(), operation.percentileMillis(0.50),
+            operation.percentileMillis(0.99), operation.percentileMillis(1.0), operation.getOutcomes()));
+    }
+
+    public static final class Operation {
+
+        private final Map<String, Integer> outcomes = new TreeMap<>();
+        private final List<Long> durations = new ArrayList<>();
+        private long[] sorted;
+
+        void add(String outcome, long nanos) {
+            outcomes.merge(outcome == null ? "?" : outcome, 1, Integer::sum);
+            durations.add(nanos);
+            sorted = null;
+        }
+
+        public int count() {
+            return durations.size();
+        }
+
+        public Map<String, Integer> getOutcomes() {
+            return outcomes;
+        }
+
+        public double averageMillis() {
+            return durations.stream().mapToLong(Long::longValue).average().orElse(0) / 1e6;
+        }
+
+        public double percentileMillis(double percentile) {
+            if (sorted == null) {
+                sorted = durations.stream().mapToLong(Long::longValue).toArray();
+                Arrays.sort(sorted);
+            }
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.assessment.corebanking.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(PayloadSerializationEvent.NAME)
+@Label("Payload Serialization")
+@Description("LoggingAspect turning a controller argument list or result into masked JSON")
+@Category({"Core Banking", "Logging"})
+@StackTrace(false)
+public class PayloadSerializationEvent extends Event {
+
+    public static final String NAME = "corebanking.PayloadSerialization";
+
+    @Label("Operation")
+    @Description("REQUEST or RESPONSE, followed by the controller method")
+    public String operation;
+
+    @Label("Card Id")
+    @Description("The card id path variable, or 0 when there is none")
+    public long cardId;
+
+    @Label("Characters")
+    @Description("Length of the masked JSON produced")
+    public long length;
+
+    @Label("Outcome")
+    @Description("OK, or the simple name of the Jackson exception when falling back to toString")
+    public String outcome;
+}
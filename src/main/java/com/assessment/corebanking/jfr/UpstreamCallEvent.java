@@ -0,0 +1,32 @@
+package com.assessment.corebanking.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(UpstreamCallEvent.NAME)
+@Label("Upstream Call")
+@Description("One HTTP attempt against the notification API")
+@Category({"Core Banking", "Upstream"})
+@StackTrace(false)
+public class UpstreamCallEvent extends Event {
+
+    public static final String NAME = "corebanking.UpstreamCall";
+
+    @Label("Operation")
+    @Description("direct, primary or hedge")
+    public String operation;
+
+    @Label("Card Id")
+    public long cardId;
+
+    @Label("URL")
+    public String url;
+
+    @Label("Outcome")
+    @Description("OK, or the simple name of the exception thrown")
+    public String outcome;
+}
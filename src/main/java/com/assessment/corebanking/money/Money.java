@@ -0,0 +1,157 @@
+package com.assessment.corebanking.money;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * A fixed-point amount held as a {@code long} count of minor units at a currency scale, so comparisons and
+ * arithmetic stay allocation-free. Amounts are written to JSON as plain decimal numbers, exactly like the
+ * {@link BigDecimal} fields they replace.
+ */
+@JsonSerialize(using = Money.Serializer.class)
+@JsonDeserialize(using = Money.Deserializer.class)
+public final class Money implements Comparable<Money> {
+
+    public static final int DEFAULT_SCALE = 2;
+    private static final int MAX_SCALE = 18;
+
+    private final long minorUnits;
+    private final int scale;
+
+    private Money(long minorUnits, int scale) {
+        this.minorUnits = minorUnits;
+        this.scale = scale;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return new Money(minorUnits, DEFAULT_SCALE);
+    }
+
+    public static Money ofMinor(long minorUnits, int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("scale must be between 0 and " + MAX_SCALE);
+        }
+        return new Money(minorUnits, scale);
+    }
+
+    public static Money of(String amount) {
+        try {
+            return of(new BigDecimal(amount));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid amount: " + amount);
+        }
+    }
+
+    public static Money of(BigDecimal amount) {
+        return of(amount, DEFAULT_SCALE);
+    }
+
+    public static Money of(BigDecimal amount, int scale) {
+        try {
+            return ofMinor(amount.setScale(scale).unscaledValue().longValueExact(), scale);
+        } catch (ArithmeticException ex) {
+            throw new IllegalArgumentException("Amount " + amount.toPlainString()
+                + " does not fit " + scale + " decimal places");
+        }
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public Money plus(Money other) {
+        requireSameScale(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), scale);
+    }
+
+    public Money minus(Money other) {
+        requireSameScale(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), scale);
+    }
+
+    public Money negate() {
+        return new Money(Math.negateExact(minorUnits), scale);
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, scale);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        requireSameScale(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Money money && minorUnits == money.minorUnits && scale == money.scale;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + scale;
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    private void requireSameScale(Money other) {
+        if (scale != other.scale) {
+            throw new IllegalArgumentException("Cannot combine amounts with scales " + scale + " and " + other.scale);
+        }
+    }
+
+    static class Serializer extends JsonSerializer<Money> {
+
+        @Override
+        public void serialize(Money value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeNumber(value.toBigDecimal());
+        }
+    }
+
+    static class Deserializer extends JsonDeserializer<Money> {
+
+        @Override
+        public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            BigDecimal amount = switch (parser.currentToken()) {
+                case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDecimalValue();
+                case VALUE_STRING -> parseText(parser);
+                default -> (BigDecimal) context.handleUnexpectedToken(Money.class, parser);
+            };
+            try {
+                return of(amount);
+            } catch (IllegalArgumentException ex) {
+                throw InvalidFormatException.from(parser, ex.getMessage(), amount, Money.class);
+            }
+        }
+
+        private static BigDecimal parseText(JsonParser parser) throws IOException {
+            String text = parser.getText().trim();
+            try {
+                return new BigDecimal(text);
+            } catch (NumberFormatException ex) {
+                throw InvalidFormatException.from(parser, "Invalid amount", text, Money.class);
+            }
+        }
+    }
+}
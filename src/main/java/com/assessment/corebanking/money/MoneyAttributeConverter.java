@@ -0,0 +1,19 @@
+package com.assessment.corebanking.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.math.BigDecimal;
+
+@Converter
+public class MoneyAttributeConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money attribute) {
+        return attribute == null ? null : attribute.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal column) {
+        return column == null ? null : Money.of(column);
+    }
+}
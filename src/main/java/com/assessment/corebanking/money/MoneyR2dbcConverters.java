@@ -0,0 +1,38 @@
+package com.assessment.corebanking.money;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+
+/**
+ * Spring Data converters that map {@link Money} to the same {@code DECIMAL} columns on the reactive stack.
+ */
+public final class MoneyR2dbcConverters {
+
+    private MoneyR2dbcConverters() {
+    }
+
+    public static List<Converter<?, ?>> all() {
+        return List.of(new MoneyReader(), new MoneyWriter());
+    }
+
+    @ReadingConverter
+    static class MoneyReader implements Converter<BigDecimal, Money> {
+
+        @Override
+        public Money convert(BigDecimal source) {
+            return Money.of(source);
+        }
+    }
+
+    @WritingConverter
+    static class MoneyWriter implements Converter<Money, BigDecimal> {
+
+        @Override
+        public BigDecimal convert(Money source) {
+            return source.toBigDecimal();
+        }
+    }
+}
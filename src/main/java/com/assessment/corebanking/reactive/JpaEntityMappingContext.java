@@ -0,0 +1,56 @@
+package com.assessment.corebanking.reactive;
+
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.mapping.model.Property;
+import org.springframework.data.mapping.model.SimpleTypeHolder;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.relational.core.mapping.BasicRelationalPersistentProperty;
+import org.springframework.data.relational.core.mapping.NamingStrategy;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+
+/**
+ * Maps the JPA entities for R2DBC by honouring their {@code @Table}, {@code @Id} and {@code @Transient}
+ * annotations, so both stacks share one set of entity classes.
+ */
+public class JpaEntityMappingContext extends R2dbcMappingContext {
+
+    public JpaEntityMappingContext() {
+        super(new JpaTableNamingStrategy());
+    }
+
+    @Override
+    protected RelationalPersistentProperty createPersistentProperty(Property property,
+                                                                    RelationalPersistentEntity<?> owner,
+                                                                    SimpleTypeHolder simpleTypeHolder) {
+        BasicRelationalPersistentProperty persistentProperty =
+            new BasicRelationalPersistentProperty(property, owner, simpleTypeHolder, getNamingStrategy()) {
+
+                @Override
+                public boolean isIdProperty() {
+                    return super.isIdProperty() || isAnnotationPresent(Id.class);
+                }
+
+                @Override
+                public boolean isTransient() {
+                    return super.isTransient() || isAnnotationPresent(Transient.class);
+                }
+            };
+        applyDefaults(persistentProperty);
+        return persistentProperty;
+    }
+
+    static class JpaTableNamingStrategy implements NamingStrategy {
+
+        @Override
+        public String getTableName(Class<?> type) {
+            Table table = type.getAnnotation(Table.class);
+            if (table != null && !table.name().isEmpty()) {
+                return table.name();
+            }
+            return NamingStrategy.super.getTableName(type);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.assessment.corebanking.reactive;
+
+import com.assessment.corebanking.entity.ArchivedCard;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+public interface ReactiveArchivedCardRepository extends R2dbcRepository<ArchivedCard, Long> {
+}
@@ -0,0 +1,202 @@
+package com.assessment.corebanking.reactive;
+
+import com.assessment.corebanking.bin.BinTableHolder;
+import com.assessment.corebanking.dto.CardBatchGetRequest;
+import com.assessment.corebanking.dto.CardBulkStatusRequest;
+import com.assessment.corebanking.dto.CardBulkStatusResponse;
+import com.assessment.corebanking.dto.CardChangesResponse;
+import com.assessment.corebanking.dto.CardFieldSet;
+import com.assessment.corebanking.dto.CardLookup;
+import com.assessment.corebanking.dto.CardMapper;
+import com.assessment.corebanking.dto.CardNotificationResponse;
+import com.assessment.corebanking.dto.CardPatchRequest;
+import com.assessment.corebanking.dto.CardRequest;
+import com.assessment.corebanking.dto.CardResponse;
+import com.assessment.corebanking.entity.Card;
+import com.assessment.corebanking.service.CardChangeService;
+import com.assessment.corebanking.service.CardService;
+import com.assessment.corebanking.service.IdempotencyService;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@RestController
+@RequestMapping("/api/cards")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCardController {
+
+    static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    private final ReactiveCardService cardService;
+    private final CardService writeService;
+    private final CardChangeService cardChangeService;
+    private final ReactiveExternalApiService externalApiService;
+    private final IdempotencyService idempotencyService;
+    private final BinTableHolder binTables;
+
+    public ReactiveCardController(ReactiveCardService cardService,
+                                  CardService writeService,
+                                  CardChangeService cardChangeService,
+                                  ReactiveExternalApiService externalApiService,
+                                  IdempotencyService idempotencyService,
+                                  BinTableHolder binTables) {
+        this.cardService = cardService;
+        this.writeService = writeService;
+        this.cardChangeService = cardChangeService;
+        this.externalApiService = externalApiService;
+        this.idempotencyService = idempotencyService;
+        this.binTables = binTables;
+    }
+
+    @GetMapping
+    public Mono<Page<CardResponse>> getCards(Pageable pageable) {
+        return cardService.getAllCards(pageable)
+            .map(cards -> cards.map(this::toResponse));
+    }
+
+    @GetMapping(params = "ids")
+    public Mono<List<CardLookup<?>>> getCardsByIds(@RequestParam List<Long> ids,
+                                                   @RequestParam(required = false) String fields) {
+        return lookup(ids, fields);
+    }
+
+    @PostMapping("/ids:batchGet")
+    public Mono<List<CardLookup<?>>> batchGetCards(@RequestBody CardBatchGetRequest request) {
+        return lookup(request.getIds(), request.getFields());
+    }
+
+    // Whole rows are read and trimmed here; only the servlet stack narrows the query itself.
+    @GetMapping(params = {"fields", "!ids"})
+    public Mono<Page<Map<String, Object>>> getCardFields(@RequestParam String fields, Pageable pageable) {
+        return Mono.fromCallable(() -> CardFieldSet.parse(fields))
+            .flatMap(fieldSet -> cardService.getAllCards(pageable)
+                .map(cards -> cards.map(card -> CardMapper.toFields(card, fieldSet, binTables.current()))));
+    }
+
+    // The changes feed merges tombstones and shards through JPA, so it runs off the event loop like the writes.
+    @GetMapping("/changes")
+    public Mono<CardChangesResponse> getChanges(@RequestParam(required = false) String since,
+                                                @RequestParam(defaultValue = "100") int limit) {
+        return blocking(() -> cardChangeService.getChanges(since, limit));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<CardResponse> getCard(@PathVariable Long id) {
+        return cardService.getCardById(id)
+            .map(this::toResponse);
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public Mono<Map<String, Object>> getCardFields(@PathVariable Long id, @RequestParam String fields) {
+        return Mono.fromCallable(() -> CardFieldSet.parse(fields))
+            .flatMap(fieldSet -> cardService.getCardById(id)
+                .map(card -> CardMapper.toFields(card, fieldSet, binTables.current())));
+    }
+
+    @GetMapping("/{id}/notifications")
+    public Mono<CardNotificationResponse> getNotifications(@PathVariable Long id) {
+        return cardService.getCardById(id)
+            .then(externalApiService.getNotificationsForCard(id))
+            .map(notifications -> {
+                CardNotificationResponse response = new CardNotificationResponse();
+                response.setCardId(id);
+                response.setNotifications(notifications);
+                return response;
+            });
+    }
+
+    // Writes run through the servlet stack's CardService and IdempotencyService off the event loop, so PAN
+    // checks, tombstones, invalidations, group commit and idempotency behave the same on both stacks.
+    @PostMapping
+    public Mono<ResponseEntity<CardResponse>> createCard(
+            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody CardRequest request) {
+        return blocking(() -> idempotencyService.execute(idempotencyKey, "POST /api/cards", request,
+            CardResponse.class, () -> {
+                Card created = writeService.createCard(request);
+                return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(created));
+            }));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<CardResponse>> updateCard(
+            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @PathVariable Long id,
+            @Valid @RequestBody CardRequest request) {
+        return blocking(() -> idempotencyService.execute(idempotencyKey, "PUT /api/cards/" + id, request,
+            CardResponse.class, () -> {
+                Card updated = writeService.updateCard(id, request);
+                return ResponseEntity.ok(toResponse(updated));
+            }));
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Mono<ResponseEntity<CardResponse>> patchCard(
+            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @PathVariable Long id,
+            @RequestBody CardPatchRequest request) {
+        return blocking(() -> idempotencyService.execute(idempotencyKey, "PATCH /api/cards/" + id, request,
+            CardResponse.class, () -> {
+                Card patched = writeService.patchCard(id, request);
+                return ResponseEntity.ok(toResponse(patched));
+            }));
+    }
+
+    @PostMapping("/status:bulk")
+    public Mono<ResponseEntity<CardBulkStatusResponse>> updateStatus(
+            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody CardBulkStatusRequest request) {
+        return blocking(() -> idempotencyService.executeChunked(idempotencyKey, "POST /api/cards/status:bulk",
+            request, CardBulkStatusResponse.class, () -> {
+                int updated = writeService.updateStatus(request);
+                return ResponseEntity.ok(new CardBulkStatusResponse(request.getStatus(), updated));
+            }));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteCard(
+            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @PathVariable Long id) {
+        return blocking(() -> idempotencyService.execute(idempotencyKey, "DELETE /api/cards/" + id, id, Void.class,
+            () -> {
+                writeService.deleteCard(id);
+                return ResponseEntity.noContent().build();
+            }));
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> work) {
+        return Mono.fromCallable(work).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<List<CardLookup<?>>> lookup(List<Long> ids, String fields) {
+        return Mono.defer(() -> {
+            CardFieldSet fieldSet = fields == null ? null : CardFieldSet.parse(fields);
+            return cardService.getCardsByIds(ids)
+                .map(cards -> CardMapper.toLookups(ids, cards, fieldSet, binTables.current()));
+        });
+    }
+
+    private CardResponse toResponse(Card card) {
+        return CardMapper.toResponse(card, binTables.current());
+    }
+}
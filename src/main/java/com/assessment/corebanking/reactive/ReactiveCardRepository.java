@@ -0,0 +1,11 @@
+package com.assessment.corebanking.reactive;
+
+import com.assessment.corebanking.entity.Card;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveCardRepository extends R2dbcRepository<Card, Long> {
+
+    Flux<Card> findAllBy(Pageable pageable);
+}
@@ -0,0 +1,70 @@
+package com.assessment.corebanking.reactive;
+
+import com.assessment.corebanking.entity.ArchivedCard;
+import com.assessment.corebanking.entity.Card;
+import com.assessment.corebanking.exception.CardNotFoundException;
+import com.assessment.corebanking.service.CardService;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+// Reads only: writes go through CardService, so the write rules exist once for both stacks.
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCardService {
+
+    private static final int PAGE_SIZE = 10;
+
+    private final ReactiveCardRepository cardRepository;
+    private final ReactiveArchivedCardRepository archivedCardRepository;
+
+    public ReactiveCardService(ReactiveCardRepository cardRepository,
+                               ReactiveArchivedCardRepository archivedCardRepository) {
+        this.cardRepository = cardRepository;
+        this.archivedCardRepository = archivedCardRepository;
+    }
+
+    public Mono<Card> getCardById(Long id) {
+        return cardRepository.findById(id)
+            .switchIfEmpty(Mono.defer(() -> archivedCardRepository.findById(id).map(ArchivedCard::toCard)))
+            .switchIfEmpty(Mono.error(() -> new CardNotFoundException(id)));
+    }
+
+    public Mono<Page<Card>> getAllCards(Pageable pageable) {
+        Pageable fixed = PageRequest.of(pageable.getPageNumber(), PAGE_SIZE, pageable.getSort());
+        return cardRepository.findAllBy(fixed).collectList()
+            .zipWith(cardRepository.count())
+            .map(result -> new PageImpl<>(result.getT1(), fixed, result.getT2()));
+    }
+
+    public Mono<Map<Long, Card>> getCardsByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > CardService.MAX_BATCH_GET_IDS) {
+            return Mono.error(new IllegalArgumentException(
+                "ids must contain between 1 and " + CardService.MAX_BATCH_GET_IDS + " ids"));
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            return Mono.error(new IllegalArgumentException("ids must not contain blank values"));
+        }
+        List<Long> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        return cardRepository.findAllById(distinct)
+            .collectMap(Card::getId, card -> card, HashMap::new)
+            .flatMap(found -> {
+                List<Long> missing = distinct.stream().filter(id -> !found.containsKey(id)).toList();
+                if (missing.isEmpty()) {
+                    return Mono.just(found);
+                }
+                return archivedCardRepository.findAllById(missing)
+                    .doOnNext(archived -> found.put(archived.getId(), archived.toCard()))
+                    .then(Mono.just(found));
+            });
+    }
+}
@@ -0,0 +1,96 @@
+package com.assessment.corebanking.reactive;
+
+import com.assessment.corebanking.money.MoneyR2dbcConverters;
+import com.zaxxer.hikari.HikariDataSource;
+import io.netty.channel.ChannelOption;
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+import reactor.netty.http.client.HttpClient;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableR2dbcRepositories(basePackageClasses = ReactiveCardRepository.class)
+@EnableR2dbcAuditing
+public class ReactiveConfig implements WebFluxConfigurer {
+
+    private static final String EXTERNAL_API_BASE_URL = "https://jsonplaceholder.typicode.com";
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+    }
+
+    @Bean
+    public R2dbcCustomConversions r2dbcCustomConversions(ConnectionFactory connectionFactory) {
+        return R2dbcCustomConversions.of(DialectResolver.getDialect(connectionFactory), MoneyR2dbcConverters.all());
+    }
+
+    @Bean
+    public R2dbcMappingContext r2dbcMappingContext(R2dbcCustomConversions r2dbcCustomConversions) {
+        R2dbcMappingContext mappingContext = new JpaEntityMappingContext();
+        mappingContext.setSimpleTypeHolder(r2dbcCustomConversions.getSimpleTypeHolder());
+        return mappingContext;
+    }
+
+    @Bean
+    public ReactiveTransactionManager reactiveTransactionManager(ConnectionFactory connectionFactory) {
+        return new R2dbcTransactionManager(connectionFactory);
+    }
+
+    @Bean
+    @Primary
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+                                                         ObjectProvider<TransactionManagerCustomizers> customizers) {
+        // Replaces Boot's JPA transaction manager, so spring.transaction.default-timeout has to be applied here.
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        customizers.ifAvailable(customizer -> customizer.customize(transactionManager));
+        return transactionManager;
+    }
+
+    @Bean
+    public WebClient externalApiWebClient(WebClient.Builder builder) {
+        HttpClient httpClient = HttpClient.create()
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 2000)
+            .responseTimeout(Duration.ofSeconds(3));
+        return builder
+            .baseUrl(EXTERNAL_API_BASE_URL)
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .build();
+    }
+
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        configurer.addCustomResolver(new ReactivePageableHandlerMethodArgumentResolver());
+    }
+}
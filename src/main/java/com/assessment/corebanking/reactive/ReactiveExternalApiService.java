@@ -0,0 +1,36 @@
+package com.assessment.corebanking.reactive;
+
+import com.assessment.corebanking.dto.ExternalPost;
+import com.assessment.corebanking.exception.ExternalApiException;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExternalApiService {
+
+    private final WebClient webClient;
+
+    public ReactiveExternalApiService(WebClient externalApiWebClient) {
+        this.webClient = externalApiWebClient;
+    }
+
+    public Mono<List<ExternalPost>> getNotificationsForCard(Long cardId) {
+        if (cardId == null) {
+            return Mono.error(new IllegalArgumentException("cardId is required"));
+        }
+        long mod = Math.floorMod(cardId, 10);
+        int userId = Math.toIntExact(mod + 1);
+        return webClient.get()
+            .uri("/posts?userId={userId}", userId)
+            .retrieve()
+            .bodyToFlux(ExternalPost.class)
+            .collectList()
+            .onErrorMap(WebClientException.class,
+                ex -> new ExternalApiException("Failed to fetch card notifications", ex));
+    }
+}
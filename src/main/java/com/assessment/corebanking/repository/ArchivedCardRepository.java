@@ -0,0 +1,22 @@
+package com.assessment.corebanking.repository;
+
+import com.assessment.corebanking.entity.ArchivedCard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ArchivedCardRepository extends JpaRepository<ArchivedCard, Long> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from ArchivedCard a where a.id = :id")
+    int deleteArchivedCardById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ArchivedCard a"
+        + " set a.bin = (select substring(p.pan, 1, case when length(p.pan) >= 16 then 8 else 6 end)"
+        + " from CardPan p where p.cardId = a.id)"
+        + " where a.bin is null"
+        + " and exists (select p.cardId from CardPan p where p.cardId = a.id and length(p.pan) >= 12)")
+    int backfillBins();
+}
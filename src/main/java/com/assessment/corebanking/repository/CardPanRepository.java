@@ -0,0 +1,14 @@
+package com.assessment.corebanking.repository;
+
+import com.assessment.corebanking.entity.CardPan;
+import java.util.stream.Stream;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface CardPanRepository extends JpaRepository<CardPan, Long> {
+
+    boolean existsByPan(String pan);
+
+    @Query("select p.pan from CardPan p")
+    Stream<String> streamAllPans();
+}
@@ -0,0 +1,16 @@
+package com.assessment.corebanking.repository;
+
+import com.assessment.corebanking.dto.CardFieldSet;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface CardProjectionRepository {
+
+    Optional<Map<String, Object>> findFieldsById(Long id, CardFieldSet fieldSet);
+
+    Optional<Map<String, Object>> findArchivedFieldsById(Long id, CardFieldSet fieldSet);
+
+    Page<Map<String, Object>> findAllFields(CardFieldSet fieldSet, Pageable pageable);
+}
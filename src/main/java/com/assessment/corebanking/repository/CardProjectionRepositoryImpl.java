@@ -0,0 +1,117 @@
+package com.assessment.corebanking.repository;
+
+import com.assessment.corebanking.bin.BinTable;
+import com.assessment.corebanking.bin.BinTableHolder;
+import com.assessment.corebanking.dto.CardFieldSet;
+import com.assessment.corebanking.dto.CardMapper;
+import com.assessment.corebanking.entity.ArchivedCard;
+import com.assessment.corebanking.entity.Card;
+import com.assessment.corebanking.enums.CardField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+class CardProjectionRepositoryImpl implements CardProjectionRepository {
+
+    private static final int MAX_CACHED = 512;
+
+    // Criteria queries are re-translated on every execution, so the projections are issued as JPQL
+    // strings instead: the same field list always yields the same string and hits Hibernate's
+    // query plan cache. Keyed by field list since CardFieldSet.including() builds new instances.
+    private static final Map<List<CardField>, String> CARD_SELECTS = new ConcurrentHashMap<>();
+    private static final Map<List<CardField>, String> ARCHIVED_SELECTS = new ConcurrentHashMap<>();
+
+    private final EntityManager entityManager;
+    private final BinTableHolder binTables;
+
+    CardProjectionRepositoryImpl(EntityManager entityManager, BinTableHolder binTables) {
+        this.entityManager = entityManager;
+        this.binTables = binTables;
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findFieldsById(Long id, CardFieldSet fieldSet) {
+        return findFieldsById(CARD_SELECTS, Card.class, id, fieldSet);
+    }
+
+    @Override
+    public Optional<Map<String, Object>> findArchivedFieldsById(Long id, CardFieldSet fieldSet) {
+        return findFieldsById(ARCHIVED_SELECTS, ArchivedCard.class, id, fieldSet);
+    }
+
+    @Override
+    public Page<Map<String, Object>> findAllFields(CardFieldSet fieldSet, Pageable pageable) {
+        String jpql = select(CARD_SELECTS, Card.class, fieldSet) + orderBy(pageable.getSort());
+        TypedQuery<Tuple> typed = entityManager.createQuery(jpql, Tuple.class);
+        if (pageable.isPaged()) {
+            typed.setFirstResult((int) pageable.getOffset());
+            typed.setMaxResults(pageable.getPageSize());
+        }
+        BinTable binTable = binTables.current();
+        List<Map<String, Object>> rows = typed.getResultList().stream()
+            .map(tuple -> toRow(tuple, fieldSet, binTable))
+            .toList();
+        return PageableExecutionUtils.getPage(rows, pageable, this::count);
+    }
+
+    private Optional<Map<String, Object>> findFieldsById(Map<List<CardField>, String> selects, Class<?> type,
+                                                         Long id, CardFieldSet fieldSet) {
+        return entityManager.createQuery(select(selects, type, fieldSet) + " where c.id = :id", Tuple.class)
+            .setParameter("id", id)
+            .getResultStream()
+            .findFirst()
+            .map(tuple -> toRow(tuple, fieldSet, binTables.current()));
+    }
+
+    private long count() {
+        return entityManager.createQuery("select count(c) from Card c", Long.class).getSingleResult();
+    }
+
+    private static String select(Map<List<CardField>, String> selects, Class<?> type, CardFieldSet fieldSet) {
+        List<CardField> fields = fieldSet.getFields();
+        String cached = selects.get(fields);
+        if (cached != null) {
+            return cached;
+        }
+        String jpql = fields.stream()
+            .map(field -> "c." + field.getAttribute())
+            .collect(Collectors.joining(", ", "select ", " from " + type.getSimpleName() + " c"));
+        if (selects.size() < MAX_CACHED) {
+            selects.putIfAbsent(fields, jpql);
+        }
+        return jpql;
+    }
+
+    // Sort properties come from the request, so each is resolved through CardField before it is
+    // written into the query text.
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        return sort.stream()
+            .map(order -> "c." + CardField.fromAttribute(order.getProperty()).getAttribute()
+                + (order.isAscending() ? " asc" : " desc"))
+            .collect(Collectors.joining(", ", " order by ", ""));
+    }
+
+    private static Map<String, Object> toRow(Tuple tuple, CardFieldSet fieldSet, BinTable binTable) {
+        List<CardField> fields = fieldSet.getFields();
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            CardField field = fields.get(i);
+            Object value = tuple.get(i);
+            row.put(field.getName(), field.isFromBin() ? CardMapper.binField(field, (String) value, binTable) : value);
+        }
+        return row;
+    }
+}
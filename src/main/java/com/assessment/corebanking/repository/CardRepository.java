@@ -1,7 +1,56 @@
 package com.assessment.corebanking.repository;
 
 import com.assessment.corebanking.entity.Card;
+import com.assessment.corebanking.enums.CardStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface CardRepository extends JpaRepository<Card, Long> {
+public interface CardRepository extends JpaRepository<Card, Long>, CardProjectionRepository {
+
+    @Query("select c from Card c"
+        + " where c.updatedAt >= :since and (c.updatedAt > :since or c.id > :afterId)"
+        + " and c.updatedAt < :until"
+        + " order by c.updatedAt, c.id")
+    List<Card> findChangedSince(@Param("since") LocalDateTime since,
+                                @Param("afterId") long afterId,
+                                @Param("until") LocalDateTime until,
+                                Pageable pageable);
+
+    @Query("select c.id from Card c"
+        + " where c.id > :afterId"
+        + " and c.status <> :status"
+        + " and (:currentStatus is null or c.status = :currentStatus)"
+        + " and (:prefix is null or exists (select p.cardId from CardPan p"
+        + " where p.cardId = c.id and p.pan like concat(:prefix, '%')))"
+        + " order by c.id")
+    List<Long> findIdsForStatusChange(@Param("afterId") long afterId,
+                                      @Param("prefix") String cardNumberPrefix,
+                                      @Param("currentStatus") CardStatus currentStatus,
+                                      @Param("status") CardStatus status,
+                                      Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Card c set c.status = :status, c.updatedAt = :updatedAt"
+        + " where c.id in :ids and c.status <> :status")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("status") CardStatus status,
+                          @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Card c where c.id = :id")
+    int deleteCardById(@Param("id") Long id);
+
+    // Same prefix as CardMapper keeps: 8 digits for numbers of 16 or more, 6 otherwise.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Card c set c.bin = (select substring(p.pan, 1, case when length(p.pan) >= 16 then 8 else 6 end)"
+        + " from CardPan p where p.cardId = c.id)"
+        + " where c.bin is null"
+        + " and exists (select p.cardId from CardPan p where p.cardId = c.id and length(p.pan) >= 12)")
+    int backfillBins();
 }
@@ -0,0 +1,7 @@
+package com.assessment.corebanking.repository;
+
+import com.assessment.corebanking.entity.CardShardRange;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CardShardRangeRepository extends JpaRepository<CardShardRange, Long> {
+}
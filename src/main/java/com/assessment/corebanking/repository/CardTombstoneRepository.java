@@ -0,0 +1,26 @@
+package com.assessment.corebanking.repository;
+
+import com.assessment.corebanking.entity.CardTombstone;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CardTombstoneRepository extends JpaRepository<CardTombstone, Long> {
+
+    @Query("select t from CardTombstone t"
+        + " where t.deletedAt >= :since and (t.deletedAt > :since or t.cardId > :afterId)"
+        + " and t.deletedAt < :until"
+        + " order by t.deletedAt, t.cardId")
+    List<CardTombstone> findDeletedSince(@Param("since") LocalDateTime since,
+                                         @Param("afterId") long afterId,
+                                         @Param("until") LocalDateTime until,
+                                         Pageable pageable);
+
+    @Modifying
+    @Query("delete from CardTombstone t where t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
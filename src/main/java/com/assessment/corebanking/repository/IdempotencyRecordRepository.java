@@ -0,0 +1,19 @@
+package com.assessment.corebanking.repository;
+
+import com.assessment.corebanking.entity.IdempotencyRecord;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.idempotencyKey = :key and r.expiresAt < :now")
+    int deleteExpired(@Param("key") String key, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,75 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.bin.BinTable;
+import com.assessment.corebanking.bin.BinTableHolder;
+import com.assessment.corebanking.config.BinProperties;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the BIN file into a {@link BinTable} at startup and installs a fresh table in the {@link BinTableHolder}
+ * whenever the file changes.
+ * A file that fails to parse on reload leaves the current table in place.
+ */
+@Component
+public class BinTableLoader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinTableLoader.class);
+
+    private final BinTableHolder binTables;
+    private final Resource resource;
+    private long loadedModified = -1;
+
+    public BinTableLoader(BinProperties properties, ResourceLoader resourceLoader, BinTableHolder binTables) {
+        this.binTables = binTables;
+        this.resource = resourceLoader.getResource(properties.getLocation());
+        if (resource.exists()) {
+            reload();
+        } else {
+            LOGGER.warn("BIN file {} not found; cards will not be classified", properties.getLocation());
+        }
+    }
+
+    public synchronized int reload() {
+        long modified = lastModified();
+        BinTable table;
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            table = BinTable.parse(reader);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read BIN file " + resource.getDescription(), ex);
+        }
+        binTables.install(table);
+        loadedModified = modified;
+        LOGGER.info("Loaded {} BIN ranges from {}", table.size(), resource.getDescription());
+        return table.size();
+    }
+
+    @Scheduled(fixedDelayString = "${corebanking.bin.reload-interval:PT1M}")
+    public void reloadIfModified() {
+        if (!resource.exists() || lastModified() == loadedModified) {
+            return;
+        }
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Keeping the current BIN table: {}", ex.getMessage());
+        }
+    }
+
+    private long lastModified() {
+        try {
+            return resource.lastModified();
+        } catch (IOException ex) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.config.ArchiveProperties;
+import com.assessment.corebanking.enums.CardStatus;
+import com.assessment.corebanking.exception.CardNotFoundException;
+import com.assessment.corebanking.sharding.CardShardRouter;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Moves expired and long-inactive cards from {@code cards} into {@code cards_archive} in id-ordered batches, so
+ * the hot table only holds live cards. Archived cards keep their id and PAN, stay readable through
+ * {@link CardService} and can be moved back with {@link #restore(Long)}.
+ */
+@Service
+public class CardArchiveService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CardArchiveService.class);
+    // Shared by cards and cards_archive; CardArchiveServiceTest pins it to both tables' mapped columns.
+    static final String COLUMNS = "id, masked_number, bin, cardholder_name, expiry_date, status, card_type,"
+        + " credit_limit, balance, created_at";
+    private static final String ARCHIVABLE = "((status = :expired and updated_at < :expiredBefore)"
+        + " or (status = :inactive and updated_at < :inactiveBefore))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final CardShardRouter cardShardRouter;
+    private final CardNearCache nearCache;
+    private final boolean enabled;
+    private final Duration expiredAfter;
+    private final Duration inactiveAfter;
+    private final int batchSize;
+
+    public CardArchiveService(DataSource dataSource,
+                              CardShardRouter cardShardRouter,
+                              CardNearCache nearCache,
+                              ArchiveProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.cardShardRouter = cardShardRouter;
+        this.nearCache = nearCache;
+        this.enabled = properties.isEnabled();
+        this.expiredAfter = properties.getExpiredAfter();
+        this.inactiveAfter = properties.getInactiveAfter();
+        this.batchSize = properties.getBatchSize();
+    }
+
+    @Scheduled(initialDelayString = "${corebanking.archive.interval:PT1H}",
+        fixedDelayString = "${corebanking.archive.interval:PT1H}")
+    public void scheduledArchive() {
+        if (enabled) {
+            archive();
+        }
+    }
+
+    public synchronized int archive() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object> criteria = Map.of(
+            "expired", CardStatus.EXPIRED.name(),
+            "expiredBefore", now.minus(expiredAfter),
+            "inactive", CardStatus.INACTIVE.name(),
+            "inactiveBefore", now.minus(inactiveAfter));
+        int archived = 0;
+        for (int shard = 0; shard < cardShardRouter.getShardCount(); shard++) {
+            archived += archiveShard(shard, criteria, now);
+        }
+        if (archived > 0) {
+            LOGGER.info("Archived {} cards", archived);
+        }
+        return archived;
+    }
+
+    public void restore(Long id) {
+        int shard = cardShardRouter.shardForId(id);
+        int restored = cardShardRouter.inTransaction(shard, false, () -> {
+            boolean identityInsert = isSqlServer();
+            if (identityInsert) {
+                jdbcTemplate.execute("SET IDENTITY_INSERT cards ON");
+            }
+            int inserted = jdbcTemplate.update("insert into cards (" + COLUMNS + ", updated_at)"
+                + " select " + COLUMNS + ", ? from cards_archive where id = ?", LocalDateTime.now(), id);
+            if (identityInsert) {
+                jdbcTemplate.execute("SET IDENTITY_INSERT cards OFF");
+            }
+            jdbcTemplate.update("delete from cards_archive where id = ?", id);
+            if (inserted > 0) {
+                nearCache.publish(List.of(id));
+            }
+            return inserted;
+        });
+        if (restored == 0) {
+            throw new CardNotFoundException(id);
+        }
+        nearCache.invalidate(id);
+    }
+
+    // Each batch is re-checked against the criteria as it is copied, so a card changed since it was selected stays.
+    private int archiveShard(int shard, Map<String, Object> criteria, LocalDateTime archivedAt) {
+        int archived = 0;
+        long afterId = 0L;
+        while (true) {
+            Map<String, Object> params = new HashMap<>(criteria);
+            params.put("afterId", afterId);
+            params.put("limit", batchSize);
+            List<Long> ids = cardShardRouter.inTransaction(shard, true, () -> namedJdbcTemplate.queryForList(
+                "select id from cards where id > :afterId and " + ARCHIVABLE
+                    + " order by id offset 0 rows fetch next :limit rows only", params, Long.class));
+            if (ids.isEmpty()) {
+                return archived;
+            }
+            params.put("ids", ids);
+            params.put("archivedAt", archivedAt);
+            archived += cardShardRouter.inTransaction(shard, false, () -> {
+                namedJdbcTemplate.update("insert into cards_archive (" + COLUMNS + ", updated_at, archived_at)"
+                    + " select " + COLUMNS + ", updated_at, :archivedAt from cards"
+                    + " where id in (:ids) and " + ARCHIVABLE, params);
+                return namedJdbcTemplate.update("delete from cards where id in (:ids)"
+                    + " and id in (select id from cards_archive where id in (:ids))", params);
+            });
+            if (ids.size() < batchSize) {
+                return archived;
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+
+    private boolean isSqlServer() {
+        return "Microsoft SQL Server".equals(
+            jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName()));
+    }
+}
@@ -0,0 +1,43 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.repository.ArchivedCardRepository;
+import com.assessment.corebanking.repository.CardRepository;
+import com.assessment.corebanking.sharding.CardShardRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the {@code bin} column of cards created before it existed from their number in {@code card_pans}, so they are
+ * classified like new cards. Runs once per start and shard; cards that already have a BIN are left alone.
+ */
+@Component
+public class CardBinBackfill {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CardBinBackfill.class);
+
+    private final CardRepository cardRepository;
+    private final ArchivedCardRepository archivedCardRepository;
+    private final CardShardRouter cardShardRouter;
+
+    public CardBinBackfill(CardRepository cardRepository,
+                           ArchivedCardRepository archivedCardRepository,
+                           CardShardRouter cardShardRouter) {
+        this.cardRepository = cardRepository;
+        this.archivedCardRepository = archivedCardRepository;
+        this.cardShardRouter = cardShardRouter;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        for (int shard = 0; shard < cardShardRouter.getShardCount(); shard++) {
+            int filled = cardShardRouter.inTransaction(shard, false,
+                () -> cardRepository.backfillBins() + archivedCardRepository.backfillBins());
+            if (filled > 0) {
+                LOGGER.info("Stored the BIN of {} existing cards on shard {}", filled, shard);
+            }
+        }
+    }
+}
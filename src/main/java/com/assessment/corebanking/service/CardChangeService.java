@@ -0,0 +1,178 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.bin.BinTable;
+import com.assessment.corebanking.bin.BinTableHolder;
+import com.assessment.corebanking.config.SyncProperties;
+import com.assessment.corebanking.datasource.ReadWriteRoutingContext;
+import com.assessment.corebanking.dto.CardChange;
+import com.assessment.corebanking.dto.CardChangesResponse;
+import com.assessment.corebanking.dto.CardMapper;
+import com.assessment.corebanking.entity.Card;
+import com.assessment.corebanking.entity.CardTombstone;
+import com.assessment.corebanking.exception.SyncTokenExpiredException;
+import com.assessment.corebanking.repository.CardRepository;
+import com.assessment.corebanking.repository.CardTombstoneRepository;
+import com.assessment.corebanking.sharding.CardShardRouter;
+import com.assessment.corebanking.sharding.ShardMerge;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+
+@Service
+public class CardChangeService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CardChangeService.class);
+    private static final SyncPosition ORIGIN = new SyncPosition(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+    private static final Comparator<Card> CARD_ORDER =
+        Comparator.comparing(Card::getUpdatedAt).thenComparing(Card::getId);
+    private static final Comparator<CardTombstone> TOMBSTONE_ORDER =
+        Comparator.comparing(CardTombstone::getDeletedAt).thenComparing(CardTombstone::getCardId);
+
+    private final CardRepository cardRepository;
+    private final CardTombstoneRepository tombstoneRepository;
+    private final CardShardRouter cardShardRouter;
+    private final BinTableHolder binTables;
+    private final Duration settleWindow;
+    private final Duration tombstoneRetention;
+    private final int maxPageSize;
+
+    public CardChangeService(CardRepository cardRepository,
+                             CardTombstoneRepository tombstoneRepository,
+                             CardShardRouter cardShardRouter,
+                             BinTableHolder binTables,
+                             SyncProperties properties,
+                             PlatformTransactionManager transactionManager) {
+        this.cardRepository = cardRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.cardShardRouter = cardShardRouter;
+        this.binTables = binTables;
+        this.settleWindow = settleWindow(properties.getSettleWindow(), transactionManager);
+        this.tombstoneRetention = properties.getTombstoneRetention();
+        this.maxPageSize = properties.getMaxPageSize();
+    }
+
+    // Served by the primary: a replica lagging more than the settle window would apply rows behind the positions
+    // already handed out.
+    @Transactional
+    public CardChangesResponse getChanges(String token, int limit) {
+        return ReadWriteRoutingContext.onPrimary(() -> readChanges(token, limit));
+    }
+
+    private CardChangesResponse readChanges(String token, int limit) {
+        if (limit < 1 || limit > maxPageSize) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxPageSize);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        SyncPosition since = token == null ? ORIGIN : SyncPosition.decode(token);
+        if (token != null && since.changedAt().isBefore(now.minus(tombstoneRetention))) {
+            throw new SyncTokenExpiredException();
+        }
+        LocalDateTime until = now.minus(settleWindow);
+        Pageable page = Pageable.ofSize(limit + 1);
+        List<Card> cards = ShardMerge.merge(cardShardRouter.onEachShard(true,
+                shard -> cardRepository.findChangedSince(since.changedAt(), since.id(), until, page)),
+            CARD_ORDER, 0, limit + 1);
+        List<CardTombstone> tombstones = ShardMerge.merge(cardShardRouter.onEachShard(true,
+                shard -> tombstoneRepository.findDeletedSince(since.changedAt(), since.id(), until, page)),
+            TOMBSTONE_ORDER, 0, limit + 1);
+
+        List<CardChange> changes = merge(cards, tombstones, limit);
+        boolean hasMore = cards.size() + tombstones.size() > limit;
+        SyncPosition next;
+        if (hasMore) {
+            CardChange last = changes.get(changes.size() - 1);
+            next = new SyncPosition(last.getChangedAt(), last.getId());
+        } else if (since.changedAt().isBefore(until)) {
+            next = new SyncPosition(until, 0L);
+        } else {
+            next = since;
+        }
+        return new CardChangesResponse(changes, next.encode(), hasMore);
+    }
+
+    @Scheduled(fixedDelayString = "${corebanking.sync.tombstone-purge-interval:PT1H}")
+    @Transactional
+    public void purgeExpiredTombstones() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(tombstoneRetention);
+        int purged = cardShardRouter.onEachShard(false, shard -> tombstoneRepository.deleteOlderThan(cutoff))
+            .stream().mapToInt(Integer::intValue).sum();
+        if (purged > 0) {
+            LOGGER.info("Purged {} card tombstones", purged);
+        }
+    }
+
+    // A row can only be paged past once the transaction that stamped its updatedAt has finished. Every transaction,
+    // group commits included, stamps rows after it begins and is rolled back once it outlives the default timeout,
+    // so holding changes back for that timeout plus settle-window (clock skew and commit latency) means none can
+    // still commit behind a position already handed out. Without a timeout, settle-window alone is a guess.
+    private static Duration settleWindow(Duration margin, PlatformTransactionManager transactionManager) {
+        int timeout = transactionManager instanceof AbstractPlatformTransactionManager platform
+            ? platform.getDefaultTimeout() : TransactionDefinition.TIMEOUT_DEFAULT;
+        if (timeout < 0) {
+            LOGGER.warn("No default transaction timeout is set; sync holds changes back for {} only, so a slower "
+                + "transaction can commit behind a handed-out token", margin);
+            return margin;
+        }
+        return Duration.ofSeconds(timeout).plus(margin);
+    }
+
+    private List<CardChange> merge(List<Card> cards, List<CardTombstone> tombstones, int limit) {
+        List<CardChange> changes = new ArrayList<>(Math.min(limit, cards.size() + tombstones.size()));
+        BinTable binTable = binTables.current();
+        int c = 0;
+        int t = 0;
+        while (changes.size() < limit && (c < cards.size() || t < tombstones.size())) {
+            boolean takeCard;
+            if (c >= cards.size()) {
+                takeCard = false;
+            } else if (t >= tombstones.size()) {
+                takeCard = true;
+            } else {
+                Card card = cards.get(c);
+                CardTombstone tombstone = tombstones.get(t);
+                int order = card.getUpdatedAt().compareTo(tombstone.getDeletedAt());
+                takeCard = order < 0 || (order == 0 && card.getId() < tombstone.getCardId());
+            }
+            if (takeCard) {
+                changes.add(CardChange.upsert(CardMapper.toResponse(cards.get(c++), binTable)));
+            } else {
+                CardTombstone tombstone = tombstones.get(t++);
+                changes.add(CardChange.delete(tombstone.getCardId(), tombstone.getDeletedAt()));
+            }
+        }
+        return changes;
+    }
+
+    private record SyncPosition(LocalDateTime changedAt, long id) {
+
+        String encode() {
+            String raw = changedAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static SyncPosition decode(String token) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                return new SyncPosition(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+                throw new IllegalArgumentException("Invalid sync token");
+            }
+        }
+    }
+}
@@ -1,18 +1,102 @@
 package com.assessment.corebanking.service;
 
+import com.assessment.corebanking.bin.BinInfo;
+import com.assessment.corebanking.bin.BinTableHolder;
+import com.assessment.corebanking.bin.Luhn;
+import com.assessment.corebanking.dto.CardBulkStatusRequest;
+import com.assessment.corebanking.dto.CardPatchRequest;
+import com.assessment.corebanking.dto.CardPatchRequest.Field;
 import com.assessment.corebanking.dto.CardRequest;
+import com.assessment.corebanking.entity.Card;
 import com.assessment.corebanking.enums.CardType;
+import com.assessment.corebanking.money.Money;
+import java.util.Objects;
 import org.springframework.stereotype.Component;
 
 @Component
 public class CardDomainValidator {
 
+    private final BinTableHolder binTables;
+
+    public CardDomainValidator(BinTableHolder binTables) {
+        this.binTables = binTables;
+    }
+
     public void validate(CardRequest request) {
         if (request == null || request.getCardType() == null) {
             return;
         }
-        if (request.getCardType() != CardType.CREDIT && request.getCreditLimit() != null) {
+        validateCreditLimit(request.getCardType(), request.getCreditLimit());
+        validateCardNumber(request.getCardNumber(), request.getCardType());
+    }
+
+    public void validatePatch(CardPatchRequest patch, Card card) {
+        if (patch == null || card == null) {
+            return;
+        }
+        requirePresentValue(patch, Field.CARD_NUMBER, patch.getCardNumber(), "cardNumber");
+        requirePresentValue(patch, Field.CARDHOLDER_NAME, patch.getCardholderName(), "cardholderName");
+        requirePresentValue(patch, Field.EXPIRY_DATE, patch.getExpiryDate(), "expiryDate");
+        requirePresentValue(patch, Field.STATUS, patch.getStatus(), "status");
+        requirePresentValue(patch, Field.CARD_TYPE, patch.getCardType(), "cardType");
+        requirePresentValue(patch, Field.BALANCE, patch.getBalance(), "balance");
+        if (patch.has(Field.CARD_TYPE) || patch.has(Field.CREDIT_LIMIT)) {
+            CardType cardType = patch.has(Field.CARD_TYPE) ? patch.getCardType() : card.getCardType();
+            Money creditLimit = patch.has(Field.CREDIT_LIMIT) ? patch.getCreditLimit() : card.getCreditLimit();
+            validateCreditLimit(cardType, creditLimit);
+        }
+        if (patch.has(Field.CARD_NUMBER)) {
+            CardType cardType = patch.has(Field.CARD_TYPE) ? patch.getCardType() : card.getCardType();
+            validateCardNumber(patch.getCardNumber(), cardType);
+        } else if (patch.has(Field.CARD_TYPE)) {
+            validateProduct(card.getBin(), patch.getCardType());
+        }
+    }
+
+    public void validate(CardBulkStatusRequest request) {
+        if (request == null) {
+            return;
+        }
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean hasFilter = request.getCardNumberPrefix() != null || request.getCurrentStatus() != null;
+        if (hasIds == hasFilter) {
+            throw new IllegalArgumentException("Provide either ids or a filter (cardNumberPrefix, currentStatus)");
+        }
+        if (hasIds && request.getIds().stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("ids must not contain blank values");
+        }
+    }
+
+    private void validateCreditLimit(CardType cardType, Money creditLimit) {
+        if (cardType != CardType.CREDIT && creditLimit != null) {
             throw new IllegalArgumentException("creditLimit is only allowed for CREDIT cards");
         }
     }
+
+    private void validateCardNumber(String cardNumber, CardType cardType) {
+        if (cardNumber == null || cardNumber.isBlank()) {
+            return;
+        }
+        if (!Luhn.isValid(cardNumber)) {
+            throw new IllegalArgumentException("cardNumber is not a valid card number");
+        }
+        validateProduct(cardNumber, cardType);
+    }
+
+    private void validateProduct(String cardNumber, CardType cardType) {
+        BinInfo bin = binTables.current().lookup(cardNumber);
+        if (bin != null && bin.product() != null && cardType != null && bin.product() != cardType) {
+            throw new IllegalArgumentException("cardType " + cardType + " does not match the " + bin.product()
+                + " product of the card's BIN");
+        }
+    }
+
+    private void requirePresentValue(CardPatchRequest patch, Field field, Object value, String name) {
+        if (!patch.has(field)) {
+            return;
+        }
+        if (value == null || (value instanceof String text && text.isBlank())) {
+            throw new IllegalArgumentException(name + " must not be null or blank");
+        }
+    }
 }
@@ -0,0 +1,217 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.config.GroupCommitProperties;
+import com.assessment.corebanking.datasource.StatementStats;
+import com.assessment.corebanking.exception.WriteOutcomeUnknownException;
+import com.assessment.corebanking.sharding.CardShardRouter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Coalesces concurrent card writes into one transaction per shard. Each write waits at most {@code max-delay} for
+ * others to join; if the shared transaction fails, every write in it is retried in a transaction of its own so
+ * callers only see their own outcome. Work passed in must therefore be safe to run twice.
+ *
+ * <p>The persistence context is flushed once for the whole group, so Hibernate's JDBC batching sends the group's
+ * updates and assigned-id inserts as batched statements. Card inserts still run one by one, since the identity
+ * column has to hand back each id.
+ */
+@Component
+public class CardGroupCommitter implements DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CardGroupCommitter.class);
+
+    private final CardShardRouter cardShardRouter;
+    private final EntityManager entityManager;
+    private final DistributionSummary batchSizes;
+    private final boolean enabled;
+    private final long maxDelayNanos;
+    private final long waitTimeoutNanos;
+    private final int maxBatchSize;
+    private final List<BlockingQueue<PendingWrite<?>>> queues = new ArrayList<>();
+    private final List<Thread> flushers = new ArrayList<>();
+
+    public CardGroupCommitter(GroupCommitProperties properties,
+                              CardShardRouter cardShardRouter,
+                              EntityManager entityManager,
+                              MeterRegistry meterRegistry) {
+        this.cardShardRouter = cardShardRouter;
+        this.entityManager = entityManager;
+        this.batchSizes = meterRegistry.summary("corebanking.group-commit.batch.size");
+        this.enabled = properties.isEnabled();
+        this.maxDelayNanos = properties.getMaxDelay().toNanos();
+        this.waitTimeoutNanos = properties.getWaitTimeout().toNanos();
+        this.maxBatchSize = properties.getMaxBatchSize();
+        if (enabled) {
+            for (int shard = 0; shard < cardShardRouter.getShardCount(); shard++) {
+                int target = shard;
+                BlockingQueue<PendingWrite<?>> queue = new LinkedBlockingQueue<>();
+                queues.add(queue);
+                flushers.add(Thread.ofPlatform().daemon().name("card-group-commit-" + shard)
+                    .start(() -> run(target, queue)));
+            }
+        }
+    }
+
+    /**
+     * Whether writes outside an existing transaction are group-committed. Writes that join a caller's transaction
+     * always run inline.
+     */
+    public boolean accepts() {
+        return enabled && !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    /**
+     * Runs the work in the shard's next group. {@code cardId} is the card the work changes, or {@code null} for a
+     * new card; two writes to one card are flushed apart so each returns its own state.
+     */
+    public <T> T submit(int shard, Long cardId, Supplier<T> work) {
+        PendingWrite<T> write = new PendingWrite<>(cardId, work, StatementStats.current());
+        queues.get(shard).add(write);
+        try {
+            return write.result.get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for group commit", ex);
+        } catch (TimeoutException ex) {
+            // Cancelling only stops the write if its group has not been picked up yet; a running group may still
+            // commit it, so the caller cannot be told either way.
+            write.result.cancel(false);
+            throw new WriteOutcomeUnknownException(
+                "Timed out waiting for group commit on shard " + shard + "; the write may still commit", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Group commit failed", ex.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flushers.forEach(Thread::interrupt);
+    }
+
+    private void run(int shard, BlockingQueue<PendingWrite<?>> queue) {
+        List<PendingWrite<?>> batch = new ArrayList<>(maxBatchSize);
+        while (true) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    PendingWrite<?> next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException ex) {
+                queue.drainTo(batch);
+                batch.forEach(write -> write.result.completeExceptionally(
+                    new IllegalStateException("Group commit stopped")));
+                return;
+            }
+            batch.removeIf(write -> write.result.isDone());
+            try {
+                flush(shard, batch);
+            } catch (Throwable ex) {
+                // Keep the flusher alive: callers of later batches would otherwise wait out their timeout.
+                LOGGER.error("Group commit of {} card writes failed", batch.size(), ex);
+                batch.forEach(write -> write.result.completeExceptionally(ex));
+            }
+            batch.clear();
+        }
+    }
+
+    private void flush(int shard, List<PendingWrite<?>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizes.record(batch.size());
+        if (batch.size() > 1) {
+            try {
+                List<Object> results = cardShardRouter.inTransaction(shard, false, () -> runTogether(batch));
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).complete(results.get(i));
+                }
+                return;
+            } catch (RuntimeException ex) {
+                LOGGER.debug("Group commit of {} card writes failed, retrying individually: {}",
+                    batch.size(), ex.getMessage());
+            }
+        }
+        for (PendingWrite<?> write : batch) {
+            StatementStats.set(write.stats);
+            try {
+                write.complete(cardShardRouter.inTransaction(shard, false, write.work));
+            } catch (Throwable ex) {
+                write.result.completeExceptionally(ex);
+            } finally {
+                StatementStats.clear();
+            }
+        }
+    }
+
+    // Statements a write runs straight away (reads, identity inserts) count against its own request; those left
+    // for the shared flush count against none. A second write to a card already changed in the group flushes and
+    // clears first, so it loads a fresh copy instead of the one returned to the earlier caller.
+    private List<Object> runTogether(List<PendingWrite<?>> batch) {
+        List<Object> results = new ArrayList<>(batch.size());
+        Set<Long> changed = new HashSet<>();
+        for (PendingWrite<?> write : batch) {
+            if (write.cardId != null && !changed.add(write.cardId)) {
+                entityManager.flush();
+                entityManager.clear();
+                changed.clear();
+                changed.add(write.cardId);
+            }
+            StatementStats.set(write.stats);
+            try {
+                results.add(write.work.get());
+            } finally {
+                StatementStats.clear();
+            }
+        }
+        entityManager.flush();
+        return results;
+    }
+
+    private static final class PendingWrite<T> {
+
+        private final Long cardId;
+        private final Supplier<T> work;
+        private final StatementStats stats;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        PendingWrite(Long cardId, Supplier<T> work, StatementStats stats) {
+            this.cardId = cardId;
+            this.work = work;
+            this.stats = stats;
+        }
+
+        @SuppressWarnings("unchecked")
+        void complete(Object value) {
+            result.complete((T) value);
+        }
+    }
+}
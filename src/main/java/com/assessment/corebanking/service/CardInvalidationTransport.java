@@ -0,0 +1,21 @@
+package com.assessment.corebanking.service;
+
+import java.util.Collection;
+
+/**
+ * Carries card invalidations between instances for {@link CardNearCache}. The default is
+ * {@link JdbcCardInvalidationTransport}; register a {@code @Primary} bean to use a message bus instead.
+ */
+public interface CardInvalidationTransport {
+
+    /**
+     * Announces changed cards. Called inside the writing transaction, on the cards' shard, so the
+     * announcement commits or rolls back with the change.
+     */
+    void publish(Collection<Long> cardIds);
+
+    /**
+     * Returns the ids announced since the previous poll, by any instance including this one.
+     */
+    Collection<Long> poll();
+}
@@ -0,0 +1,126 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.config.NearCacheProperties;
+import com.assessment.corebanking.entity.Card;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-instance cache of card reads, kept coherent across instances through a {@link CardInvalidationTransport}.
+ * Every applied invalidation bumps the generation stamp of the card's stripe, and a read only caches its result if
+ * no invalidation of that stripe ran while it was in flight, so an entry dropped by an invalidation is never put back
+ * with the data it replaced. Fills must read the primary for the same reason. Cached cards are shared between
+ * callers and must not be modified.
+ */
+@Component
+public class CardNearCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final CardInvalidationTransport transport;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final long refreshAheadNanos;
+    private final RotatingCacheMap<Entry> entries;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+
+    public CardNearCache(CardInvalidationTransport transport, NearCacheProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.enabled = properties.isEnabled();
+        this.ttlNanos = properties.getTtl().toNanos();
+        this.refreshAheadNanos = 2 * properties.getHotRefreshInterval().toNanos();
+        this.entries = new RotatingCacheMap<>(properties.getMaxEntries());
+        this.hits = meterRegistry.counter("corebanking.near-cache.hits");
+        this.misses = meterRegistry.counter("corebanking.near-cache.misses");
+        this.invalidations = meterRegistry.counter("corebanking.near-cache.invalidations");
+        meterRegistry.gauge("corebanking.near-cache.size", entries, RotatingCacheMap::size);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Striped so that writes to other cards rarely keep a read from being cached.
+    public long generation(long id) {
+        return generations.get(stripe(id));
+    }
+
+    public Card get(long id) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = entries.get(id);
+        if (entry != null && entry.expiry() - System.nanoTime() > 0) {
+            hits.increment();
+            return entry.card();
+        }
+        if (entry != null) {
+            entries.remove(id, entry);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Whether a card has no live entry, or one that may expire before the next hot-card refresh looks at it again.
+     */
+    public boolean dueForRefresh(long id) {
+        if (!enabled) {
+            return false;
+        }
+        Entry entry = entries.get(id);
+        return entry == null || entry.expiry() - System.nanoTime() <= refreshAheadNanos;
+    }
+
+    /**
+     * Caches a card read by a lookup that started at {@code observedGeneration}, taken from {@link #generation(long)}
+     * for the same id. The entry is dropped again if an invalidation of the card's stripe ran in the meantime.
+     */
+    public void put(Card card, long observedGeneration) {
+        if (!enabled) {
+            return;
+        }
+        entries.put(card.getId(), new Entry(card, System.nanoTime() + ttlNanos));
+        if (generation(card.getId()) != observedGeneration) {
+            entries.remove(card.getId());
+        }
+    }
+
+    /**
+     * Announces changed cards to every instance; call it inside the writing transaction.
+     */
+    public void publish(Collection<Long> cardIds) {
+        if (enabled && !cardIds.isEmpty()) {
+            transport.publish(cardIds);
+        }
+    }
+
+    public void invalidate(long id) {
+        generations.incrementAndGet(stripe(id));
+        if (entries.remove(id)) {
+            invalidations.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${corebanking.near-cache.poll-interval:PT1S}")
+    public void poll() {
+        if (enabled) {
+            transport.poll().forEach(this::invalidate);
+        }
+    }
+
+    private static int stripe(long id) {
+        return Math.floorMod(Long.hashCode(id), GENERATION_STRIPES);
+    }
+
+    private record Entry(Card card, long expiry) {
+    }
+}
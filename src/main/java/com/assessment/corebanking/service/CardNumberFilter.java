@@ -0,0 +1,111 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.config.CardNumberFilterProperties;
+import com.assessment.corebanking.repository.CardPanRepository;
+import com.assessment.corebanking.sharding.CardShardRouter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CardNumberFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CardNumberFilter.class);
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final CardPanRepository cardPanRepository;
+    private final CardShardRouter cardShardRouter;
+    private final boolean enabled;
+    private final CountingBloomFilter filter;
+    private final ThreadLocal<Mac> macs;
+    private volatile boolean ready;
+
+    public CardNumberFilter(CardNumberFilterProperties properties,
+                            CardPanRepository cardPanRepository,
+                            CardShardRouter cardShardRouter) {
+        this.cardPanRepository = cardPanRepository;
+        this.cardShardRouter = cardShardRouter;
+        this.enabled = properties.isEnabled();
+        this.filter = enabled
+            ? new CountingBloomFilter(properties.getExpectedInsertions(), properties.getFalsePositiveProbability())
+            : null;
+        // The filter only lives in memory, so a per-process key is enough to keep card numbers out of the heap.
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        SecretKeySpec secretKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> newMac(secretKey));
+    }
+
+    /**
+     * Returns {@code false} only when the card number is definitely not stored; until the filter is seeded every
+     * number is reported as a possible duplicate.
+     */
+    public boolean mightContain(String cardNumber) {
+        if (!ready) {
+            return true;
+        }
+        ByteBuffer hash = hash(cardNumber);
+        return filter.mightContain(hash.getLong(), hash.getLong());
+    }
+
+    public void add(String cardNumber) {
+        if (enabled) {
+            ByteBuffer hash = hash(cardNumber);
+            filter.add(hash.getLong(), hash.getLong());
+        }
+    }
+
+    public void remove(String cardNumber) {
+        if (enabled) {
+            ByteBuffer hash = hash(cardNumber);
+            filter.remove(hash.getLong(), hash.getLong());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        LongAdder seeded = new LongAdder();
+        for (int shard = 0; shard < cardShardRouter.getShardCount(); shard++) {
+            cardShardRouter.inTransaction(shard, true, () -> {
+                try (Stream<String> pans = cardPanRepository.streamAllPans()) {
+                    pans.forEach(pan -> {
+                        add(pan);
+                        seeded.increment();
+                    });
+                }
+                return null;
+            });
+        }
+        ready = true;
+        LOGGER.info("Seeded card number filter with {} card numbers in {} ms ({} counters, {} hashes)",
+            seeded.sum(), (System.nanoTime() - started) / 1_000_000, filter.getCounterCount(), filter.getHashCount());
+    }
+
+    private ByteBuffer hash(String cardNumber) {
+        return ByteBuffer.wrap(macs.get().doFinal(cardNumber.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static Mac newMac(SecretKeySpec key) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HMAC unavailable", ex);
+        }
+    }
+}
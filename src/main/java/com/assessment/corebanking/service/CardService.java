@@ -1,62 +1,426 @@
 package com.assessment.corebanking.service;
 
+import com.assessment.corebanking.datasource.ReadWriteRoutingContext;
+import com.assessment.corebanking.dto.CardBulkStatusRequest;
+import com.assessment.corebanking.dto.CardFieldSet;
 import com.assessment.corebanking.dto.CardMapper;
+import com.assessment.corebanking.dto.CardPatchRequest;
 import com.assessment.corebanking.dto.CardRequest;
+import com.assessment.corebanking.entity.ArchivedCard;
 import com.assessment.corebanking.entity.Card;
+import com.assessment.corebanking.entity.CardPan;
+import com.assessment.corebanking.entity.CardTombstone;
+import com.assessment.corebanking.enums.CardField;
 import com.assessment.corebanking.exception.CardNotFoundException;
+import com.assessment.corebanking.exception.DuplicateCardNumberException;
+import com.assessment.corebanking.repository.ArchivedCardRepository;
+import com.assessment.corebanking.repository.CardPanRepository;
 import com.assessment.corebanking.repository.CardRepository;
+import com.assessment.corebanking.repository.CardTombstoneRepository;
+import com.assessment.corebanking.sharding.CardShardRouter;
+import com.assessment.corebanking.sharding.ShardMerge;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.beans.support.PropertyComparator;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class CardService {
 
+    public static final int MAX_BATCH_GET_IDS = 1000;
+
     private static final int PAGE_SIZE = 10;
+    private static final int BULK_CHUNK_SIZE = 1000;
+    private static final int BATCH_GET_CHUNK_SIZE = 256;
 
     private final CardRepository cardRepository;
+    private final CardPanRepository cardPanRepository;
+    private final CardTombstoneRepository tombstoneRepository;
+    private final ArchivedCardRepository archivedCardRepository;
     private final CardDomainValidator cardDomainValidator;
+    private final CardShardRouter cardShardRouter;
+    private final CardNumberFilter cardNumberFilter;
+    private final MissingCardCache missingCardCache;
+    private final CardGroupCommitter groupCommitter;
+    private final HotCardTracker hotCardTracker;
+    private final CardNearCache nearCache;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readTransaction;
 
-    public CardService(CardRepository cardRepository, CardDomainValidator cardDomainValidator) {
+    public CardService(CardRepository cardRepository,
+                       CardPanRepository cardPanRepository,
+                       CardTombstoneRepository tombstoneRepository,
+                       ArchivedCardRepository archivedCardRepository,
+                       CardDomainValidator cardDomainValidator,
+                       CardShardRouter cardShardRouter,
+                       CardNumberFilter cardNumberFilter,
+                       MissingCardCache missingCardCache,
+                       CardGroupCommitter groupCommitter,
+                       HotCardTracker hotCardTracker,
+                       CardNearCache nearCache,
+                       PlatformTransactionManager transactionManager) {
         this.cardRepository = cardRepository;
+        this.cardPanRepository = cardPanRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.archivedCardRepository = archivedCardRepository;
         this.cardDomainValidator = cardDomainValidator;
+        this.cardShardRouter = cardShardRouter;
+        this.cardNumberFilter = cardNumberFilter;
+        this.missingCardCache = missingCardCache;
+        this.groupCommitter = groupCommitter;
+        this.hotCardTracker = hotCardTracker;
+        this.nearCache = nearCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
     }
 
-    @Transactional
     public Card createCard(CardRequest request) {
         cardDomainValidator.validate(request);
-        Card card = CardMapper.toEntity(request);
-        return cardRepository.save(card);
+        int shard = cardShardRouter.shardForCardNumber(request.getCardNumber());
+        requireCardNumberFree(shard, request.getCardNumber());
+        return write(shard, null, () -> {
+            Card saved = cardRepository.save(CardMapper.toEntity(request));
+            cardPanRepository.save(new CardPan(saved.getId(), request.getCardNumber()));
+            cardNumberFilter.add(request.getCardNumber());
+            afterCommit(() -> missingCardCache.invalidate(saved.getId()));
+            return saved;
+        });
     }
 
-    @Transactional
     public Card updateCard(Long id, CardRequest request) {
         cardDomainValidator.validate(request);
-        Card card = cardRepository.findById(id)
-            .orElseThrow(() -> new CardNotFoundException(id));
-        CardMapper.updateEntity(request, card);
-        return cardRepository.save(card);
+        int shard = cardShardRouter.shardForId(id);
+        return write(shard, id, () -> {
+            Card card = cardRepository.findById(id)
+                .orElseThrow(() -> new CardNotFoundException(id));
+            changePan(shard, id, request.getCardNumber());
+            CardMapper.updateEntity(request, card);
+            cardsChanged(List.of(id));
+            return cardRepository.save(card);
+        });
+    }
+
+    public Card patchCard(Long id, CardPatchRequest patch) {
+        int shard = cardShardRouter.shardForId(id);
+        return write(shard, id, () -> {
+            Card card = cardRepository.findById(id)
+                .orElseThrow(() -> new CardNotFoundException(id));
+            cardDomainValidator.validatePatch(patch, card);
+            if (patch.has(CardPatchRequest.Field.CARD_NUMBER)) {
+                changePan(shard, id, patch.getCardNumber());
+            }
+            CardMapper.applyPatch(patch, card);
+            cardsChanged(List.of(id));
+            return cardRepository.save(card);
+        });
     }
 
-    @Transactional
     public Card getCardById(Long id) {
-        return cardRepository.findById(id)
-            .orElseThrow(() -> new CardNotFoundException(id));
+        Card cached = nearCache.get(id);
+        if (cached != null) {
+            hotCardTracker.record(id);
+            return cached;
+        }
+        long generation = nearCache.generation(id);
+        Card card = fillFromPrimary(() -> findCard(id, () -> cardRepository.findById(id)
+            .or(() -> archivedCardRepository.findById(id).map(ArchivedCard::toCard))));
+        nearCache.put(card, generation);
+        return card;
     }
 
-    @Transactional
+    public void requireCardExists(Long id) {
+        if (nearCache.get(id) != null) {
+            hotCardTracker.record(id);
+            return;
+        }
+        findCard(id, () -> cardRepository.existsById(id) || archivedCardRepository.existsById(id)
+            ? Optional.of(id) : Optional.empty());
+    }
+
+    // Cached and known-missing ids are answered from memory; the rest are read with one IN query per shard chunk,
+    // plus one against the archive for any ids that chunk did not find.
+    public Map<Long, Card> getCardsByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BATCH_GET_IDS) {
+            throw new IllegalArgumentException("ids must contain between 1 and " + MAX_BATCH_GET_IDS + " ids");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("ids must not contain blank values");
+        }
+        long generation = missingCardCache.generation();
+        Map<Long, Card> found = new HashMap<>();
+        Map<Long, Long> lookup = new LinkedHashMap<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            Card cached = nearCache.get(id);
+            if (cached != null) {
+                hotCardTracker.record(id);
+                found.put(id, cached);
+            } else if (!missingCardCache.isMissing(id)) {
+                lookup.put(id, nearCache.generation(id));
+            }
+        }
+        readByIds(lookup.keySet(), found);
+        for (Map.Entry<Long, Long> looked : lookup.entrySet()) {
+            Card card = found.get(looked.getKey());
+            if (card == null) {
+                missingCardCache.markMissing(looked.getKey(), generation);
+            } else {
+                hotCardTracker.record(looked.getKey());
+                nearCache.put(card, looked.getValue());
+            }
+        }
+        return found;
+    }
+
+    // Reads hot cards back into the near cache before their entries expire; ids that no longer exist are skipped.
+    public void refreshNearCache(Collection<Long> ids) {
+        Map<Long, Long> lookup = new LinkedHashMap<>();
+        ids.forEach(id -> lookup.put(id, nearCache.generation(id)));
+        Map<Long, Card> found = new HashMap<>();
+        readByIds(lookup.keySet(), found);
+        found.forEach((id, card) -> nearCache.put(card, lookup.get(id)));
+    }
+
+    // Fills found from the primary; ids missing from both tables are simply absent.
+    private void readByIds(Collection<Long> ids, Map<Long, Card> found) {
+        for (Map.Entry<Integer, List<Long>> shardIds : cardShardRouter.groupByShard(ids).entrySet()) {
+            List<Long> onShard = shardIds.getValue();
+            for (int from = 0; from < onShard.size(); from += BATCH_GET_CHUNK_SIZE) {
+                List<Long> chunk = onShard.subList(from, Math.min(from + BATCH_GET_CHUNK_SIZE, onShard.size()));
+                fillFromPrimary(() -> cardShardRouter.inTransaction(shardIds.getKey(), true, () -> {
+                    cardRepository.findAllById(chunk).forEach(card -> found.put(card.getId(), card));
+                    List<Long> archived = chunk.stream().filter(id -> !found.containsKey(id)).toList();
+                    if (!archived.isEmpty()) {
+                        archivedCardRepository.findAllById(archived)
+                            .forEach(card -> found.put(card.getId(), card.toCard()));
+                    }
+                    return null;
+                }));
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
     public Page<Card> getAllCards(Pageable pageable) {
         Pageable fixed = PageRequest.of(pageable.getPageNumber(), PAGE_SIZE, pageable.getSort());
-        return cardRepository.findAll(fixed);
+        if (!cardShardRouter.isSharded()) {
+            return cardRepository.findAll(fixed);
+        }
+        Sort sort = fixed.getSort().isSorted() ? fixed.getSort().and(Sort.by("id")) : Sort.by("id");
+        Pageable window = PageRequest.of(0, (int) fixed.getOffset() + PAGE_SIZE, sort);
+        List<Page<Card>> pages = cardShardRouter.onEachShard(true, shard -> cardRepository.findAll(window));
+        List<Card> content = ShardMerge.merge(pages.stream().map(Page::getContent).toList(),
+            comparatorFor(sort), fixed.getOffset(), PAGE_SIZE);
+        long total = pages.stream().mapToLong(Page::getTotalElements).sum();
+        return new PageImpl<>(content, fixed, total);
+    }
+
+    public Map<String, Object> getCardFields(Long id, CardFieldSet fieldSet) {
+        return findCard(id, () -> cardRepository.findFieldsById(id, fieldSet)
+            .or(() -> cardRepository.findArchivedFieldsById(id, fieldSet)));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllCardFields(Pageable pageable, CardFieldSet fieldSet) {
+        Pageable fixed = PageRequest.of(pageable.getPageNumber(), PAGE_SIZE, pageable.getSort());
+        if (!cardShardRouter.isSharded()) {
+            return cardRepository.findAllFields(fieldSet, fixed);
+        }
+        Sort sort = fixed.getSort().isSorted() ? fixed.getSort().and(Sort.by("id")) : Sort.by("id");
+        Pageable window = PageRequest.of(0, (int) fixed.getOffset() + PAGE_SIZE, sort);
+        CardFieldSet withSortFields = fieldSet.including(sort.map(order -> CardField.fromAttribute(order.getProperty())));
+        List<Page<Map<String, Object>>> pages = cardShardRouter.onEachShard(true,
+            shard -> cardRepository.findAllFields(withSortFields, window));
+        List<Map<String, Object>> content = ShardMerge.merge(pages.stream().map(Page::getContent).toList(),
+            rowComparatorFor(sort), fixed.getOffset(), PAGE_SIZE);
+        long total = pages.stream().mapToLong(Page::getTotalElements).sum();
+        return new PageImpl<>(content.stream().map(fieldSet::select).toList(), fixed, total);
     }
 
     @Transactional
     public void deleteCard(Long id) {
-        if (!cardRepository.existsById(id)) {
+        cardShardRouter.onShard(cardShardRouter.shardForId(id), () -> {
+            if (cardRepository.deleteCardById(id) == 0 && archivedCardRepository.deleteArchivedCardById(id) == 0) {
+                throw new CardNotFoundException(id);
+            }
+            cardsChanged(List.of(id));
+            cardPanRepository.findById(id).ifPresent(cardPan -> {
+                cardPanRepository.delete(cardPan);
+                afterCommit(() -> cardNumberFilter.remove(cardPan.getPan()));
+            });
+            return tombstoneRepository.save(new CardTombstone(id, LocalDateTime.now()));
+        });
+    }
+
+    public int updateStatus(CardBulkStatusRequest request) {
+        cardDomainValidator.validate(request);
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            return updateStatusByIds(request);
+        }
+        return updateStatusByFilter(request);
+    }
+
+    private int updateStatusByIds(CardBulkStatusRequest request) {
+        List<Long> ids = request.getIds().stream().distinct().sorted().toList();
+        int updated = 0;
+        for (Map.Entry<Integer, List<Long>> shardIds : cardShardRouter.groupByShard(ids).entrySet()) {
+            List<Long> onShard = shardIds.getValue();
+            for (int from = 0; from < onShard.size(); from += BULK_CHUNK_SIZE) {
+                List<Long> chunk = onShard.subList(from, Math.min(from + BULK_CHUNK_SIZE, onShard.size()));
+                updated += updateChunk(shardIds.getKey(), chunk, request);
+            }
+        }
+        return updated;
+    }
+
+    private int updateStatusByFilter(CardBulkStatusRequest request) {
+        Pageable chunkPage = PageRequest.ofSize(BULK_CHUNK_SIZE);
+        int updated = 0;
+        for (int shard = 0; shard < cardShardRouter.getShardCount(); shard++) {
+            long afterId = 0L;
+            while (true) {
+                long after = afterId;
+                List<Long> chunk = cardShardRouter.onShard(shard, () -> cardRepository.findIdsForStatusChange(
+                    after, request.getCardNumberPrefix(), request.getCurrentStatus(), request.getStatus(), chunkPage));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                updated += updateChunk(shard, chunk, request);
+                afterId = chunk.get(chunk.size() - 1);
+            }
+        }
+        return updated;
+    }
+
+    // Each chunk is stamped when it runs: a run-wide stamp would fall behind sync positions handed out meanwhile.
+    private int updateChunk(int shard, List<Long> chunk, CardBulkStatusRequest request) {
+        Integer count = cardShardRouter.onShard(shard, () -> transactionTemplate.execute(status -> {
+            cardsChanged(chunk);
+            return cardRepository.updateStatusByIds(chunk, request.getStatus(), LocalDateTime.now());
+        }));
+        return count == null ? 0 : count;
+    }
+
+    private void changePan(int shard, Long id, String cardNumber) {
+        CardPan cardPan = cardPanRepository.findById(id)
+            .orElseGet(() -> new CardPan(id, null));
+        String previous = cardPan.getPan();
+        if (!Objects.equals(previous, cardNumber)) {
+            requireCardNumberFree(shard, cardNumber);
+            cardPan.setPan(cardNumber);
+            cardPanRepository.save(cardPan);
+            cardNumberFilter.add(cardNumber);
+            if (previous != null) {
+                afterCommit(() -> cardNumberFilter.remove(previous));
+            }
+        }
+    }
+
+    // Other instances drop the cards when they poll the announcement; this one drops them once the write commits.
+    private void cardsChanged(List<Long> ids) {
+        if (!nearCache.isEnabled()) {
+            return;
+        }
+        nearCache.publish(ids);
+        List<Long> changed = List.copyOf(ids);
+        afterCommit(() -> changed.forEach(nearCache::invalidate));
+    }
+
+    // Work runs again on its own if a shared group commit fails, so it must not capture state from a previous run.
+    private <T> T write(int shard, Long cardId, Supplier<T> work) {
+        if (groupCommitter.accepts()) {
+            return groupCommitter.submit(shard, cardId, work);
+        }
+        return transactionTemplate.execute(status -> cardShardRouter.onShard(shard, work));
+    }
+
+    // Reads that fill the near cache go to the primary: a lagging replica could hand back a card an invalidation has
+    // already replaced, and it would then be served until the entry expires. Must run before a connection is bound.
+    private <T> T fillFromPrimary(Supplier<T> read) {
+        return nearCache.isEnabled() ? ReadWriteRoutingContext.onPrimary(read) : read.get();
+    }
+
+    // Known-missing ids are rejected before a transaction, and with it a pooled connection, is opened.
+    private <T> T findCard(Long id, Supplier<Optional<T>> lookup) {
+        if (missingCardCache.isMissing(id)) {
             throw new CardNotFoundException(id);
         }
-        cardRepository.deleteById(id);
+        long generation = missingCardCache.generation();
+        Optional<T> found = readTransaction.execute(
+            status -> cardShardRouter.onShard(cardShardRouter.shardForId(id), lookup));
+        if (found == null || found.isEmpty()) {
+            missingCardCache.markMissing(id, generation);
+            throw new CardNotFoundException(id);
+        }
+        hotCardTracker.record(id);
+        return found.get();
+    }
+
+    // A number the filter has never seen skips the lookup on its own shard, where the unique constraint still
+    // catches races and writes from other instances. Other shards have no such backstop and are always checked.
+    private void requireCardNumberFree(int shard, String cardNumber) {
+        boolean checkOwnShard = cardNumberFilter.mightContain(cardNumber);
+        if (!checkOwnShard && !cardShardRouter.isSharded()) {
+            return;
+        }
+        boolean taken = cardShardRouter.onEachShard(true,
+            other -> (other != shard || checkOwnShard) && cardPanRepository.existsByPan(cardNumber)).contains(true);
+        if (taken) {
+            throw new DuplicateCardNumberException();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<Map<String, Object>> rowComparatorFor(Sort sort) {
+        Comparator<Map<String, Object>> comparator = null;
+        for (Sort.Order order : sort) {
+            String key = CardField.fromAttribute(order.getProperty()).getName();
+            Comparator<Comparable> values = Comparator.nullsFirst(Comparator.naturalOrder());
+            Comparator<Map<String, Object>> next = Comparator.comparing(row -> (Comparable) row.get(key),
+                order.isAscending() ? values : values.reversed());
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    private static Comparator<Card> comparatorFor(Sort sort) {
+        Comparator<Card> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Card> next = new PropertyComparator<>(order.getProperty(), order.isIgnoreCase(), order.isAscending());
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
     }
 }
@@ -0,0 +1,92 @@
+package com.assessment.corebanking.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class CountingBloomFilter {
+
+    private static final int COUNTER_BITS = 4;
+    private static final int COUNTERS_PER_WORD = Long.SIZE / COUNTER_BITS;
+    private static final long MAX_COUNT = (1L << COUNTER_BITS) - 1;
+
+    private final AtomicLongArray words;
+    private final long counterCount;
+    private final int hashCount;
+
+    CountingBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("falsePositiveProbability must be between 0 and 1");
+        }
+        double ln2 = Math.log(2);
+        long counters = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (ln2 * ln2));
+        int words = Math.toIntExact((counters + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD);
+        this.words = new AtomicLongArray(words);
+        this.counterCount = (long) words * COUNTERS_PER_WORD;
+        this.hashCount = Math.max(1, (int) Math.round((double) counters / expectedInsertions * ln2));
+    }
+
+    long getCounterCount() {
+        return counterCount;
+    }
+
+    int getHashCount() {
+        return hashCount;
+    }
+
+    boolean mightContain(long hash1, long hash2) {
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(hash1, hash2, i);
+            if (counter(words.get(word(index)), index) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void add(long hash1, long hash2) {
+        for (int i = 0; i < hashCount; i++) {
+            update(index(hash1, hash2, i), 1);
+        }
+    }
+
+    void remove(long hash1, long hash2) {
+        for (int i = 0; i < hashCount; i++) {
+            update(index(hash1, hash2, i), -1);
+        }
+    }
+
+    // Saturated counters are never decremented, so an overflow can only cause false positives.
+    private void update(long index, int delta) {
+        int word = word(index);
+        int shift = shift(index);
+        while (true) {
+            long current = words.get(word);
+            long count = (current >>> shift) & MAX_COUNT;
+            if (count == MAX_COUNT || (delta < 0 && count == 0)) {
+                return;
+            }
+            long next = current + ((long) delta << shift);
+            if (words.compareAndSet(word, current, next)) {
+                return;
+            }
+        }
+    }
+
+    private long index(long hash1, long hash2, int i) {
+        return Long.remainderUnsigned(hash1 + i * hash2, counterCount);
+    }
+
+    private static int word(long index) {
+        return (int) (index / COUNTERS_PER_WORD);
+    }
+
+    private static int shift(long index) {
+        return (int) (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+    }
+
+    private static long counter(long word, long index) {
+        return (word >>> shift(index)) & MAX_COUNT;
+    }
+}
@@ -1,41 +1,199 @@
 package com.assessment.corebanking.service;
 
+import com.assessment.corebanking.config.ExternalApiProperties;
 import com.assessment.corebanking.dto.ExternalPost;
 import com.assessment.corebanking.exception.ExternalApiException;
+import com.assessment.corebanking.jfr.UpstreamCallEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 @Service
-public class ExternalApiService {
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ExternalApiService implements DisposableBean {
 
-    private static final String BASE_URL = "https://jsonplaceholder.typicode.com";
+    private static final long BUDGET_UNIT = 1_000;
+    private static final long BUDGET_CAP = 10 * BUDGET_UNIT;
 
     private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final ExternalApiProperties.Hedging hedging;
+    private final LatencyTracker latencies;
+    private final AtomicLong budget = new AtomicLong();
+    private final long budgetDeposit;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter requests;
+    private final Counter hedges;
+    private final Counter hedgeWins;
 
-    public ExternalApiService(RestTemplate restTemplate) {
+    public ExternalApiService(RestTemplate restTemplate, ExternalApiProperties properties, MeterRegistry meterRegistry) {
         this.restTemplate = restTemplate;
+        this.baseUrl = properties.getBaseUrl();
+        this.hedging = properties.getHedging();
+        this.latencies = new LatencyTracker(hedging.getSampleSize(), hedging.getPercentile());
+        this.budgetDeposit = Math.round(hedging.getBudgetRatio() * BUDGET_UNIT);
+        this.requests = meterRegistry.counter("corebanking.notifications.requests");
+        this.hedges = meterRegistry.counter("corebanking.notifications.hedged");
+        this.hedgeWins = meterRegistry.counter("corebanking.notifications.hedge.wins");
+        Gauge.builder("corebanking.notifications.hedge.delay", this, service -> service.hedgeDelayNanos() / 1e6)
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
     }
 
-    @Transactional
     public List<ExternalPost> getNotificationsForCard(Long cardId) {
         if (cardId == null) {
             throw new IllegalArgumentException("cardId is required");
         }
         long mod = Math.floorMod(cardId, 10);
         int userId = Math.toIntExact(mod + 1);
-        String url = BASE_URL + "/posts?userId=" + userId;
+        String url = baseUrl + "/posts?userId=" + userId;
+        requests.increment();
+        if (!hedging.isEnabled()) {
+            return fetch(url, cardId, "direct");
+        }
+        depositBudget();
+        CompletableFuture<List<ExternalPost>> primary =
+            CompletableFuture.supplyAsync(() -> fetch(url, cardId, "primary"), executor);
+        long delay = hedgeDelayNanos();
+        if (delay < 0) {
+            return await(primary);
+        }
+        try {
+            return primary.get(delay, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            if (!tryAcquireBudget()) {
+                return await(primary);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ExternalApiException("Interrupted while fetching card notifications", ex);
+        } catch (ExecutionException ex) {
+            throw unwrap(ex.getCause());
+        }
+        hedges.increment();
+        CompletableFuture<List<ExternalPost>> hedge =
+            CompletableFuture.supplyAsync(() -> fetch(url, cardId, "hedge"), executor);
+        return await(firstSuccessful(primary, hedge));
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns how long the first attempt may run before a hedge is sent, or {@code -1} while there are too few
+     * samples to trust the percentile.
+     */
+    long hedgeDelayNanos() {
+        long percentile = latencies.percentileNanos();
+        if (percentile < 0 || latencies.count() < hedging.getMinSamples()) {
+            return -1;
+        }
+        return Math.max(hedging.getMinDelay().toNanos(), Math.min(percentile, hedging.getMaxDelay().toNanos()));
+    }
+
+    private List<ExternalPost> fetch(String url, long cardId, String attempt) {
+        UpstreamCallEvent event = new UpstreamCallEvent();
+        event.begin();
+        long started = System.nanoTime();
+        String outcome = "OK";
         try {
             ExternalPost[] posts = restTemplate.getForObject(url, ExternalPost[].class);
+            latencies.record(System.nanoTime() - started);
             if (posts == null) {
                 return List.of();
             }
             return Arrays.asList(posts);
         } catch (RestClientException ex) {
+            outcome = ex.getClass().getSimpleName();
             throw new ExternalApiException("Failed to fetch card notifications", ex);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = attempt;
+                event.cardId = cardId;
+                event.url = url;
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    private CompletableFuture<List<ExternalPost>> firstSuccessful(CompletableFuture<List<ExternalPost>> primary,
+                                                                  CompletableFuture<List<ExternalPost>> hedge) {
+        CompletableFuture<List<ExternalPost>> winner = new CompletableFuture<>();
+        AtomicBoolean decided = new AtomicBoolean();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((posts, ex) -> {
+            if (ex == null) {
+                if (decided.compareAndSet(false, true)) {
+                    winner.complete(posts);
+                }
+            } else if (failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(ex);
+            }
+        });
+        hedge.whenComplete((posts, ex) -> {
+            if (ex == null) {
+                if (decided.compareAndSet(false, true)) {
+                    hedgeWins.increment();
+                    winner.complete(posts);
+                }
+            } else if (failures.incrementAndGet() == 2) {
+                winner.completeExceptionally(ex);
+            }
+        });
+        return winner;
+    }
+
+    private void depositBudget() {
+        budget.getAndUpdate(tokens -> Math.min(BUDGET_CAP, tokens + budgetDeposit));
+    }
+
+    private boolean tryAcquireBudget() {
+        while (true) {
+            long tokens = budget.get();
+            if (tokens < BUDGET_UNIT) {
+                return false;
+            }
+            if (budget.compareAndSet(tokens, tokens - BUDGET_UNIT)) {
+                return true;
+            }
+        }
+    }
+
+    private static List<ExternalPost> await(CompletableFuture<List<ExternalPost>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ExternalApiException("Interrupted while fetching card notifications", ex);
+        } catch (ExecutionException ex) {
+            throw unwrap(ex.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
         }
+        return new ExternalApiException("Failed to fetch card notifications", cause);
     }
 }
@@ -0,0 +1,39 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.dto.HotCard;
+import java.util.List;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the tracker's hottest cards in the near cache. Every {@code hot-refresh-interval} the top-K ids whose entries
+ * are missing or close to expiry are read again from the primary, so a hot card is not dropped on its TTL and
+ * answered by the database until the next read refills it.
+ */
+@Component
+public class HotCardPrefetcher {
+
+    private final HotCardTracker hotCardTracker;
+    private final CardNearCache nearCache;
+    private final CardService cardService;
+
+    public HotCardPrefetcher(HotCardTracker hotCardTracker, CardNearCache nearCache, CardService cardService) {
+        this.hotCardTracker = hotCardTracker;
+        this.nearCache = nearCache;
+        this.cardService = cardService;
+    }
+
+    @Scheduled(fixedDelayString = "${corebanking.near-cache.hot-refresh-interval:PT5S}")
+    public void refresh() {
+        if (!nearCache.isEnabled()) {
+            return;
+        }
+        List<Long> due = hotCardTracker.hottest(hotCardTracker.getTopK()).stream()
+            .map(HotCard::getId)
+            .filter(nearCache::dueForRefresh)
+            .toList();
+        if (!due.isEmpty()) {
+            cardService.refreshNearCache(due);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.config.HotCardProperties;
+import com.assessment.corebanking.dto.HotCard;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracks read frequency per card id with a count-min sketch and keeps the heaviest ids in a space-saving style
+ * top-K. Every {@code decay-interval} all counts are halved, so a steady rate {@code r} settles at about
+ * {@code 2 * r * interval} hits. Recording never blocks: if another thread is updating the top-K, admission is
+ * skipped and retried on the id's next hit.
+ */
+@Component
+public class HotCardTracker {
+
+    private static final long[] SEEDS = {
+        0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+        0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x27D4EB2F165667C5L, 0x94D049BB133111EBL
+    };
+
+    private static final Comparator<Map.Entry<Long, Long>> HOTTEST_FIRST =
+        Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey());
+
+    private final boolean enabled;
+    private final int topK;
+    private final int width;
+    private final int depth;
+    private final double decaySeconds;
+    private final AtomicLongArray counters;
+    private final Map<Long, Long> top = new ConcurrentHashMap<>();
+    private final ReentrantLock admission = new ReentrantLock();
+    private volatile long threshold;
+
+    public HotCardTracker(HotCardProperties properties) {
+        if (properties.getSketchDepth() < 1 || properties.getSketchDepth() > SEEDS.length) {
+            throw new IllegalArgumentException("sketch-depth must be between 1 and " + SEEDS.length);
+        }
+        this.enabled = properties.isEnabled();
+        this.topK = properties.getTopK();
+        this.width = properties.getSketchWidth();
+        this.depth = properties.getSketchDepth();
+        this.decaySeconds = properties.getDecayInterval().toMillis() / 1000.0;
+        this.counters = new AtomicLongArray(enabled ? width * depth : 0);
+    }
+
+    public void record(long id) {
+        if (!enabled) {
+            return;
+        }
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(row, id)));
+        }
+        if (top.replace(id, estimate) == null && estimate > threshold && admission.tryLock()) {
+            try {
+                admit(id, estimate);
+            } finally {
+                admission.unlock();
+            }
+        }
+    }
+
+    public long estimate(long id) {
+        if (!enabled) {
+            return 0;
+        }
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, id)));
+        }
+        return estimate;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    public List<HotCard> hottest(int limit) {
+        return top.entrySet().stream()
+            .sorted(HOTTEST_FIRST)
+            .limit(limit)
+            .map(entry -> new HotCard(entry.getKey(), entry.getValue(), entry.getValue() / (2 * decaySeconds)))
+            .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${corebanking.hot-cards.decay-interval:PT10S}")
+    public void decay() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, count -> count >>> 1);
+        }
+        admission.lock();
+        try {
+            top.replaceAll((id, count) -> count >>> 1);
+            top.values().removeIf(count -> count == 0);
+            threshold = top.size() < topK ? 0 : top.values().stream().mapToLong(Long::longValue).min().orElse(0);
+        } finally {
+            admission.unlock();
+        }
+    }
+
+    private void admit(long id, long estimate) {
+        if (top.size() >= topK) {
+            Map.Entry<Long, Long> coldest = top.entrySet().stream()
+                .min(Map.Entry.comparingByValue())
+                .orElse(null);
+            if (coldest != null && coldest.getValue() >= estimate) {
+                threshold = coldest.getValue();
+                return;
+            }
+            if (coldest != null) {
+                top.remove(coldest.getKey());
+            }
+        }
+        top.put(id, estimate);
+        threshold = top.size() < topK ? 0 : top.values().stream().mapToLong(Long::longValue).min().orElse(0);
+    }
+
+    private int index(int row, long id) {
+        long hash = (id ^ SEEDS[row]) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 31)) * 0x94D049BB133111EBL;
+        hash ^= hash >>> 29;
+        return row * width + (int) Long.remainderUnsigned(hash, width);
+    }
+}
@@ -0,0 +1,186 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.config.IdempotencyProperties;
+import com.assessment.corebanking.dto.CardPatchRequest;
+import com.assessment.corebanking.entity.IdempotencyRecord;
+import com.assessment.corebanking.exception.IdempotencyConflictException;
+import com.assessment.corebanking.sharding.CardShardRouter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final InMemoryIdempotencyStore memoryStore;
+    private final JpaIdempotencyStore databaseStore;
+    private final CardShardRouter cardShardRouter;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public IdempotencyService(InMemoryIdempotencyStore memoryStore,
+                              JpaIdempotencyStore databaseStore,
+                              CardShardRouter cardShardRouter,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              IdempotencyProperties properties) {
+        this.memoryStore = memoryStore;
+        this.databaseStore = databaseStore;
+        this.cardShardRouter = cardShardRouter;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = properties.getTtl();
+    }
+
+    // The record is stored in the transaction of the write, so a crash can lose both but never keep the write
+    // without its record. With sharding, the record lands on the shard the write ran on.
+    public <T> ResponseEntity<T> execute(String key, String operation, Object request, Class<T> bodyType,
+                                         Supplier<ResponseEntity<T>> action) {
+        return execute(key, operation, request, bodyType, action, true);
+    }
+
+    // For writes that commit in several transactions of their own. The record is stored once they all have, so a
+    // crash in between runs the write again on retry: only use this for writes that are safe to repeat.
+    public <T> ResponseEntity<T> executeChunked(String key, String operation, Object request, Class<T> bodyType,
+                                                Supplier<ResponseEntity<T>> action) {
+        return execute(key, operation, request, bodyType, action, false);
+    }
+
+    private <T> ResponseEntity<T> execute(String key, String operation, Object request, Class<T> bodyType,
+                                          Supplier<ResponseEntity<T>> action, boolean withWrite) {
+        if (key == null) {
+            return action.get();
+        }
+        String requestHash = fingerprint(key, operation, request);
+        Optional<IdempotencyRecord> stored = find(key);
+        if (stored.isPresent()) {
+            return replay(stored.get(), requestHash, bodyType);
+        }
+        if (!inFlight.add(key)) {
+            throw new IdempotencyConflictException("A request with this " + HEADER + " is already in progress");
+        }
+        try {
+            if (withWrite) {
+                return transactionTemplate.execute(status -> storeIfSuccessful(key, requestHash, action.get()));
+            }
+            ResponseEntity<T> response = action.get();
+            return transactionTemplate.execute(status -> storeIfSuccessful(key, requestHash, response));
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    private Optional<IdempotencyRecord> find(String key) {
+        Optional<IdempotencyRecord> cached = memoryStore.find(key);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        // Not read-only: a replica could still miss a record that has just committed.
+        Optional<IdempotencyRecord> stored = cardShardRouter.onEachShard(false, shard -> databaseStore.find(key))
+            .stream()
+            .flatMap(Optional::stream)
+            .findFirst();
+        stored.ifPresent(memoryStore::save);
+        return stored;
+    }
+
+    private String fingerprint(String key, String operation, Object request) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        return hash(operation, request);
+    }
+
+    private <T> ResponseEntity<T> replay(IdempotencyRecord record, String requestHash, Class<T> bodyType) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new IdempotencyConflictException(HEADER + " was already used for a different request");
+        }
+        T body = null;
+        if (record.getResponseBody() != null) {
+            try {
+                body = objectMapper.readValue(record.getResponseBody(), bodyType);
+            } catch (JsonProcessingException ex) {
+                throw new IllegalStateException("Stored idempotent response could not be read", ex);
+            }
+        }
+        return ResponseEntity.status(record.getStatusCode())
+            .header(REPLAYED_HEADER, "true")
+            .body(body);
+    }
+
+    private <T> ResponseEntity<T> storeIfSuccessful(String key, String requestHash, ResponseEntity<T> response) {
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            return response;
+        }
+        IdempotencyRecord record = newRecord(key, requestHash, response);
+        databaseStore.save(record);
+        // Cached only once committed, so a write that rolls back is never replayed from memory.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                memoryStore.save(record);
+            }
+        });
+        return response;
+    }
+
+    private IdempotencyRecord newRecord(String key, String requestHash, ResponseEntity<?> response) {
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setIdempotencyKey(key);
+        record.setRequestHash(requestHash);
+        record.setStatusCode(response.getStatusCode().value());
+        record.setResponseBody(response.hasBody() ? toJson(response.getBody()) : null);
+        record.setCreatedAt(now);
+        record.setExpiresAt(now.plus(ttl));
+        return record;
+    }
+
+    private String hash(String operation, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(operation.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(objectMapper.writeValueAsBytes(request));
+            if (request instanceof CardPatchRequest patch) {
+                // An absent field and an explicit null serialize alike but patch differently.
+                digest.update((byte) '\n');
+                digest.update(new TreeSet<>(patch.presentFields()).toString().getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to fingerprint request", ex);
+        }
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to store idempotent response", ex);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.entity.IdempotencyRecord;
+import java.util.Optional;
+
+public interface IdempotencyStore {
+
+    Optional<IdempotencyRecord> find(String key);
+
+    void save(IdempotencyRecord record);
+}
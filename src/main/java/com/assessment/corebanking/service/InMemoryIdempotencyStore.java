@@ -0,0 +1,47 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.config.IdempotencyProperties;
+import com.assessment.corebanking.entity.IdempotencyRecord;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+@Component
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Map<String, IdempotencyRecord> records;
+
+    public InMemoryIdempotencyStore(IdempotencyProperties properties) {
+        int maxEntries = properties.getMaxMemoryEntries();
+        this.records = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Optional<IdempotencyRecord> find(String key) {
+        IdempotencyRecord record = records.get(key);
+        if (record == null) {
+            return Optional.empty();
+        }
+        if (record.isExpired(LocalDateTime.now())) {
+            records.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(record);
+    }
+
+    @Override
+    public synchronized void save(IdempotencyRecord record) {
+        records.put(record.getIdempotencyKey(), record);
+    }
+
+    synchronized int size() {
+        return records.size();
+    }
+}
@@ -0,0 +1,113 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.config.NearCacheProperties;
+import com.assessment.corebanking.sharding.CardShardRouter;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Appends invalidations to {@code card_invalidations} and polls each shard for rows above the last id it has
+ * applied. Identity values can commit out of order, so the watermark only moves past a gap once the gap is
+ * older than {@code gap-timeout}; rows above a gap are applied again on every poll until then.
+ */
+@Component
+public class JdbcCardInvalidationTransport implements CardInvalidationTransport {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JdbcCardInvalidationTransport.class);
+    private static final int POLL_LIMIT = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CardShardRouter cardShardRouter;
+    private final boolean enabled;
+    private final long gapTimeoutNanos;
+    private final Duration retention;
+    private final long[] applied;
+    private final long[] gapSince;
+    private boolean started;
+
+    public JdbcCardInvalidationTransport(DataSource dataSource,
+                                         CardShardRouter cardShardRouter,
+                                         NearCacheProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.cardShardRouter = cardShardRouter;
+        this.enabled = properties.isEnabled();
+        this.gapTimeoutNanos = properties.getGapTimeout().toNanos();
+        this.retention = properties.getRetention();
+        this.applied = new long[cardShardRouter.getShardCount()];
+        this.gapSince = new long[cardShardRouter.getShardCount()];
+    }
+
+    @Override
+    public void publish(Collection<Long> cardIds) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate("insert into card_invalidations (card_id, created_at) values (?, ?)",
+            cardIds.stream().map(id -> new Object[] {id, now}).toList());
+    }
+
+    @Override
+    public synchronized Collection<Long> poll() {
+        if (!started) {
+            List<Long> latest = cardShardRouter.onEachShard(true, shard -> jdbcTemplate.queryForObject(
+                "select coalesce(max(id), 0) from card_invalidations", Long.class));
+            for (int shard = 0; shard < applied.length; shard++) {
+                applied[shard] = latest.get(shard);
+            }
+            started = true;
+            return List.of();
+        }
+        List<List<long[]>> rows = cardShardRouter.onEachShard(true, shard -> jdbcTemplate.query(
+            "select id, card_id from card_invalidations where id > ? order by id offset 0 rows fetch next ? rows only",
+            (rs, row) -> new long[] {rs.getLong(1), rs.getLong(2)}, applied[shard], POLL_LIMIT));
+        Set<Long> cardIds = new HashSet<>();
+        long now = System.nanoTime();
+        for (int shard = 0; shard < applied.length; shard++) {
+            List<long[]> shardRows = rows.get(shard);
+            shardRows.forEach(row -> cardIds.add(row[1]));
+            advance(shard, shardRows, now);
+        }
+        return cardIds;
+    }
+
+    @Scheduled(fixedDelayString = "${corebanking.near-cache.retention:PT1H}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int purged = cardShardRouter.onEachShard(false, shard -> jdbcTemplate.update(
+            "delete from card_invalidations where created_at < ?", cutoff)).stream().mapToInt(Integer::intValue).sum();
+        if (purged > 0) {
+            LOGGER.info("Purged {} card invalidations", purged);
+        }
+    }
+
+    private void advance(int shard, List<long[]> shardRows, long now) {
+        long next = applied[shard];
+        for (long[] row : shardRows) {
+            if (row[0] != next + 1) {
+                break;
+            }
+            next = row[0];
+        }
+        long last = shardRows.isEmpty() ? next : shardRows.get(shardRows.size() - 1)[0];
+        if (next == last) {
+            gapSince[shard] = 0;
+        } else if (gapSince[shard] == 0) {
+            gapSince[shard] = now;
+        } else if (now - gapSince[shard] > gapTimeoutNanos) {
+            next = last;
+            gapSince[shard] = 0;
+        }
+        applied[shard] = next;
+    }
+}
@@ -0,0 +1,54 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.entity.IdempotencyRecord;
+import com.assessment.corebanking.repository.IdempotencyRecordRepository;
+import com.assessment.corebanking.sharding.CardShardRouter;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class JpaIdempotencyStore implements IdempotencyStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JpaIdempotencyStore.class);
+
+    private final IdempotencyRecordRepository repository;
+    private final CardShardRouter cardShardRouter;
+
+    public JpaIdempotencyStore(IdempotencyRecordRepository repository, CardShardRouter cardShardRouter) {
+        this.repository = repository;
+        this.cardShardRouter = cardShardRouter;
+    }
+
+    @Override
+    @Transactional
+    public Optional<IdempotencyRecord> find(String key) {
+        return repository.findById(key)
+            .filter(record -> !record.isExpired(LocalDateTime.now()));
+    }
+
+    // Runs in the caller's transaction. A key stored meanwhile by a concurrent request fails here with a unique
+    // violation, which rolls the caller's write back; a key that expired but was not purged yet is reused.
+    @Override
+    @Transactional
+    public void save(IdempotencyRecord record) {
+        repository.deleteExpired(record.getIdempotencyKey(), record.getCreatedAt());
+        repository.saveAndFlush(record);
+    }
+
+    @Scheduled(fixedDelayString = "${corebanking.idempotency.purge-interval:PT10M}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = cardShardRouter.onEachShard(false, shard -> repository.deleteExpired(now)).stream()
+            .mapToInt(Integer::intValue)
+            .sum();
+        if (purged > 0) {
+            LOGGER.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.assessment.corebanking.service;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Keeps the most recent latency samples in a ring and recomputes the tracked percentile every
+ * {@value #RECOMPUTE_EVERY} samples, so reading it is a single volatile load.
+ */
+final class LatencyTracker {
+
+    private static final int RECOMPUTE_EVERY = 16;
+
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded = new AtomicLong();
+    private final double percentile;
+    private volatile long percentileNanos = -1;
+
+    LatencyTracker(int sampleSize, double percentile) {
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("percentile must be in (0, 1]");
+        }
+        this.samples = new AtomicLongArray(sampleSize);
+        this.percentile = percentile;
+    }
+
+    void record(long nanos) {
+        long count = recorded.incrementAndGet();
+        samples.set((int) ((count - 1) % samples.length()), nanos);
+        if (count % RECOMPUTE_EVERY == 0) {
+            recompute(count);
+        }
+    }
+
+    long count() {
+        return recorded.get();
+    }
+
+    /**
+     * Returns the tracked percentile in nanoseconds, or {@code -1} before the first recomputation.
+     */
+    long percentileNanos() {
+        return percentileNanos;
+    }
+
+    private void recompute(long count) {
+        int size = (int) Math.min(count, samples.length());
+        long[] copy = new long[size];
+        for (int i = 0; i < size; i++) {
+            copy[i] = samples.get(i);
+        }
+        Arrays.sort(copy);
+        percentileNanos = copy[Math.min(size - 1, (int) Math.ceil(percentile * size) - 1)];
+    }
+}
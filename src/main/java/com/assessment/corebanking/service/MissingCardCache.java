@@ -0,0 +1,55 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.config.MissingCardCacheProperties;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MissingCardCache {
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final RotatingCacheMap<Long> expiries;
+    private final AtomicLong generation = new AtomicLong();
+
+    public MissingCardCache(MissingCardCacheProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.ttlNanos = properties.getTtl().toNanos();
+        this.expiries = new RotatingCacheMap<>(properties.getMaxEntries());
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    public boolean isMissing(long id) {
+        Long expiry = expiries.get(id);
+        if (expiry == null) {
+            return false;
+        }
+        if (expiry - System.nanoTime() > 0) {
+            return true;
+        }
+        expiries.remove(id, expiry);
+        return false;
+    }
+
+    /**
+     * Records a miss observed by a lookup that started at {@code observedGeneration}. The entry is dropped again if
+     * an invalidation ran in the meantime, so a lookup racing a create cannot hide the new card.
+     */
+    public void markMissing(long id, long observedGeneration) {
+        if (!enabled) {
+            return;
+        }
+        expiries.put(id, System.nanoTime() + ttlNanos);
+        if (generation.get() != observedGeneration) {
+            expiries.remove(id);
+        }
+    }
+
+    public void invalidate(long id) {
+        generation.incrementAndGet();
+        expiries.remove(id);
+    }
+}
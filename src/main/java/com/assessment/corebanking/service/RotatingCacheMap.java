@@ -0,0 +1,60 @@
+package com.assessment.corebanking.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Bounded by two segments: once the current one is full it becomes the previous one and the old previous one is
+// dropped whole, so making room costs O(1) instead of a scan. Lookups fall back to the previous segment.
+final class RotatingCacheMap<V> {
+
+    private final int segmentSize;
+    private volatile Map<Long, V> current = new ConcurrentHashMap<>();
+    private volatile Map<Long, V> previous = new ConcurrentHashMap<>();
+
+    RotatingCacheMap(int maxEntries) {
+        this.segmentSize = Math.max(1, maxEntries / 2);
+    }
+
+    V get(long id) {
+        V value = current.get(id);
+        return value != null ? value : previous.get(id);
+    }
+
+    void put(long id, V value) {
+        Map<Long, V> segment = current;
+        if (segment.size() >= segmentSize) {
+            segment = rotate(segment);
+        }
+        segment.put(id, value);
+        // A copy left in the previous segment would be served again once this one is removed.
+        Map<Long, V> older = previous;
+        if (older != segment) {
+            older.remove(id);
+        }
+    }
+
+    // Reads current before previous: a rotation in between moves entries from the first into the second, never the
+    // other way, so a removal cannot miss an entry.
+    boolean remove(long id) {
+        boolean removed = current.remove(id) != null;
+        return previous.remove(id) != null || removed;
+    }
+
+    void remove(long id, V value) {
+        current.remove(id, value);
+        previous.remove(id, value);
+    }
+
+    int size() {
+        return current.size() + previous.size();
+    }
+
+    private synchronized Map<Long, V> rotate(Map<Long, V> full) {
+        if (current != full) {
+            return current;
+        }
+        previous = full;
+        current = new ConcurrentHashMap<>();
+        return current;
+    }
+}
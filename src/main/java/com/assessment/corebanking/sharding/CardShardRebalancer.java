@@ -0,0 +1,237 @@
+package com.assessment.corebanking.sharding;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Moves contiguous id ranges from the fullest shard to the emptiest one until card counts are within
+ * tolerance. Each move copies the rows, replays rows changed during the copy, switches the range map and
+ * then deletes the source rows; archived cards in the range move with the live ones. Run it in a maintenance
+ * window, since writes that reach the old shard between the replay and the switch are not carried over.
+ */
+public class CardShardRebalancer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CardShardRebalancer.class);
+    private static final List<String> CARD_TABLES = List.of("cards", "cards_archive");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final CardShardRouter router;
+    private final int batchSize;
+    private final double tolerance;
+
+    public CardShardRebalancer(DataSource dataSource, CardShardRouter router, int batchSize, double tolerance) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.router = router;
+        this.batchSize = batchSize;
+        this.tolerance = tolerance;
+    }
+
+    public List<Long> cardCounts() {
+        return router.onEachShard(true, shard -> jdbcTemplate.queryForObject("select count(*) from cards", Long.class));
+    }
+
+    public synchronized List<ShardMove> rebalance() {
+        List<ShardMove> moves = new ArrayList<>();
+        for (int round = 0; round < router.getShardCount() * 4; round++) {
+            List<Long> counts = cardCounts();
+            int largest = counts.indexOf(Collections.max(counts));
+            int smallest = counts.indexOf(Collections.min(counts));
+            long average = counts.stream().mapToLong(Long::longValue).sum() / counts.size();
+            long excess = Math.min(counts.get(largest) - average, average - counts.get(smallest));
+            if (excess <= 0 || excess <= average * tolerance) {
+                break;
+            }
+            ShardMove move = move(largest, smallest, excess);
+            if (move == null) {
+                break;
+            }
+            moves.add(move);
+        }
+        return moves;
+    }
+
+    private ShardMove move(int from, int to, long count) {
+        long[] bounds = router.inTransaction(from, true, () -> jdbcTemplate.queryForObject(
+            "select min(id), max(id) from cards", (rs, row) -> new long[] {rs.getLong(1), rs.getLong(2)}));
+        long[] range = router.getRangeMap().rangeContaining(bounds[0]);
+        List<Long> boundary = router.inTransaction(from, true, () -> jdbcTemplate.queryForList(
+            "select id from cards where id >= ? and id < ? order by id offset ? rows fetch next 1 rows only",
+            Long.class, range[0], range[1], count));
+        long split = Math.min(boundary.isEmpty() ? range[1] : boundary.get(0), bounds[1]);
+        if (split <= bounds[0]) {
+            return null;
+        }
+
+        LocalDateTime copyStartedAt = LocalDateTime.now().minusSeconds(1);
+        int copied = copy(from, to, range[0], split);
+        replayChanges(from, to, range[0], split, copyStartedAt);
+        router.saveRanges(router.getRangeMap().reassign(range[0], split, to));
+        delete(from, range[0], split);
+        LOGGER.info("Moved {} cards with ids [{}, {}) from shard {} to shard {}", copied, range[0], split, from, to);
+        return new ShardMove(from, to, range[0], split, copied);
+    }
+
+    private int copy(int from, int to, long start, long end) {
+        int copied = 0;
+        for (String table : CARD_TABLES) {
+            long after = start - 1;
+            while (true) {
+                long lower = after;
+                List<Map<String, Object>> rows = router.inTransaction(from, true, () -> jdbcTemplate.queryForList(
+                    "select * from " + table + " where id > ? and id < ?"
+                        + " order by id offset 0 rows fetch next ? rows only", lower, end, batchSize));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                List<Map<String, Object>> pans = pans(from, rows.stream().map(row -> idOf(row, "id")).toList());
+                router.inTransaction(to, false, () -> {
+                    insertCards(to, table, rows);
+                    return insert("card_pans", false, pans);
+                });
+                copied += rows.size();
+                after = idOf(rows.get(rows.size() - 1), "id");
+            }
+        }
+        return copied;
+    }
+
+    // Archiving, restoring and deleting all move a card between cards, cards_archive and card_tombstones, so a
+    // card touched during the copy is dropped from both card tables on the target and copied again from whichever
+    // table holds it now.
+    private void replayChanges(int from, int to, long start, long end, LocalDateTime since) {
+        List<Map<String, Object>> changed = router.inTransaction(from, true, () -> jdbcTemplate.queryForList(
+            "select * from cards where id >= ? and id < ? and updated_at >= ?", start, end, since));
+        List<Map<String, Object>> archived = router.inTransaction(from, true, () -> jdbcTemplate.queryForList(
+            "select * from cards_archive where id >= ? and id < ? and archived_at >= ?", start, end, since));
+        List<Long> deleted = router.inTransaction(from, true, () -> jdbcTemplate.queryForList(
+            "select card_id from card_tombstones where card_id >= ? and card_id < ? and deleted_at >= ?",
+            Long.class, start, end, since));
+        List<Long> copiedIds = new ArrayList<>();
+        changed.forEach(row -> copiedIds.add(idOf(row, "id")));
+        archived.forEach(row -> copiedIds.add(idOf(row, "id")));
+        List<Long> stale = new ArrayList<>(deleted);
+        stale.addAll(copiedIds);
+        List<Map<String, Object>> pans = pans(from, copiedIds);
+        router.inTransaction(to, false, () -> {
+            for (List<Long> batch : batches(stale)) {
+                namedJdbcTemplate.update("delete from card_pans where card_id in (:ids)", Map.of("ids", batch));
+                for (String table : CARD_TABLES) {
+                    namedJdbcTemplate.update("delete from " + table + " where id in (:ids)", Map.of("ids", batch));
+                }
+            }
+            insertCards(to, "cards", changed);
+            insertCards(to, "cards_archive", archived);
+            return insert("card_pans", false, pans);
+        });
+    }
+
+    private void delete(int shard, long start, long end) {
+        for (String table : CARD_TABLES) {
+            while (true) {
+                List<Long> ids = router.inTransaction(shard, true, () -> jdbcTemplate.queryForList(
+                    "select id from " + table + " where id >= ? and id < ?"
+                        + " order by id offset 0 rows fetch next ? rows only", Long.class, start, end, batchSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                router.inTransaction(shard, false, () -> {
+                    namedJdbcTemplate.update("delete from card_pans where card_id in (:ids)", Map.of("ids", ids));
+                    return namedJdbcTemplate.update("delete from " + table + " where id in (:ids)", Map.of("ids", ids));
+                });
+            }
+        }
+    }
+
+    private List<Map<String, Object>> pans(int shard, List<Long> cardIds) {
+        List<Map<String, Object>> pans = new ArrayList<>();
+        for (List<Long> batch : batches(cardIds)) {
+            pans.addAll(router.inTransaction(shard, true, () -> namedJdbcTemplate.queryForList(
+                "select * from card_pans where card_id in (:ids)", Map.of("ids", batch))));
+        }
+        return pans;
+    }
+
+    // Only cards has an identity column; cards_archive takes the id the card already had.
+    private void insertCards(int shard, String table, List<Map<String, Object>> rows) {
+        boolean live = "cards".equals(table);
+        insert(table, live, rows);
+        if (live) {
+            restoreIdentity(shard, rows);
+        }
+    }
+
+    private int[] insert(String table, boolean identity, List<Map<String, Object>> rows) {
+        if (rows.isEmpty()) {
+            return new int[0];
+        }
+        List<String> columns = new ArrayList<>(rows.get(0).keySet());
+        String sql = "insert into " + table + " (" + String.join(", ", columns) + ") values ("
+            + columns.stream().map(column -> "?").collect(Collectors.joining(", ")) + ")";
+        List<Object[]> values = rows.stream()
+            .map(row -> columns.stream().map(row::get).toArray())
+            .toList();
+        boolean identityInsert = identity && "Microsoft SQL Server".equals(productName());
+        if (identityInsert) {
+            jdbcTemplate.execute("SET IDENTITY_INSERT " + table + " ON");
+        }
+        int[] inserted = jdbcTemplate.batchUpdate(sql, values);
+        if (identityInsert) {
+            jdbcTemplate.execute("SET IDENTITY_INSERT " + table + " OFF");
+        }
+        return inserted;
+    }
+
+    /**
+     * Explicit ids above the shard's own block raise its identity on SQL Server, after which new cards on the
+     * shard would take ids from the block that was just moved in. Puts the identity back after the highest id
+     * the shard has issued from its own block, counting tombstones so deleted ids are not reused.
+     */
+    private void restoreIdentity(int shard, List<Map<String, Object>> cards) {
+        long start = ShardRangeMap.rangeStart(shard);
+        long end = start + ShardRangeMap.RANGE_SIZE;
+        if (cards.stream().noneMatch(row -> idOf(row, "id") >= end)) {
+            return;
+        }
+        Long used = jdbcTemplate.queryForObject(
+            "select max(id) from (select max(id) as id from cards where id >= ? and id < ?"
+                + " union all select max(card_id) from card_tombstones where card_id >= ? and card_id < ?) used",
+            Long.class, start, end, start, end);
+        long last = used != null ? used : Math.max(start - 1, 0);
+        String product = productName();
+        if ("Microsoft SQL Server".equals(product)) {
+            jdbcTemplate.execute("DBCC CHECKIDENT ('cards', RESEED, " + last + ")");
+        } else if ("H2".equals(product) || "PostgreSQL".equals(product)) {
+            jdbcTemplate.execute("alter table cards alter column id restart with " + (last + 1));
+        } else {
+            throw new IllegalStateException("Cannot restore the card id range on " + product);
+        }
+    }
+
+    private String productName() {
+        return jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+    }
+
+    private List<List<Long>> batches(List<Long> ids) {
+        List<List<Long>> batches = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += batchSize) {
+            batches.add(ids.subList(i, Math.min(i + batchSize, ids.size())));
+        }
+        return batches;
+    }
+
+    private static long idOf(Map<String, Object> row, String column) {
+        return ((Number) row.get(column)).longValue();
+    }
+}
@@ -0,0 +1,168 @@
+package com.assessment.corebanking.sharding;
+
+import com.assessment.corebanking.config.ShardingProperties;
+import com.assessment.corebanking.datasource.StatementStats;
+import com.assessment.corebanking.entity.CardShardRange;
+import com.assessment.corebanking.repository.CardShardRangeRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class CardShardRouter implements DisposableBean {
+
+    private final int shardCount;
+    private final CardShardRangeRepository rangeRepository;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final ExecutorService executor;
+    private volatile ShardRangeMap rangeMap;
+
+    public CardShardRouter(ShardingProperties properties,
+                           CardShardRangeRepository rangeRepository,
+                           PlatformTransactionManager transactionManager) {
+        this.shardCount = properties.getShardCount();
+        this.rangeRepository = rangeRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executor = shardCount > 1 ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        this.rangeMap = ShardRangeMap.initial(shardCount);
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    public ShardRangeMap getRangeMap() {
+        return rangeMap;
+    }
+
+    public int shardForCardNumber(String cardNumber) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < cardNumber.length(); i++) {
+            hash ^= cardNumber.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return (int) Long.remainderUnsigned(hash, shardCount);
+    }
+
+    public int shardForId(long id) {
+        return rangeMap.shardFor(id);
+    }
+
+    public Map<Integer, List<Long>> groupByShard(Collection<Long> ids) {
+        return ids.stream().collect(Collectors.groupingBy(this::shardForId, TreeMap::new, Collectors.toList()));
+    }
+
+    public <T> T onShard(int shard, Supplier<T> work) {
+        if (!isSharded()) {
+            return work.get();
+        }
+        Integer previous = ShardContext.current();
+        ShardContext.set(shard);
+        try {
+            return work.get();
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+
+    public <T> T inTransaction(int shard, boolean readOnly, Supplier<T> work) {
+        TransactionTemplate template = readOnly ? readTransaction : writeTransaction;
+        return onShard(shard, () -> template.execute(status -> work.get()));
+    }
+
+    public <T> List<T> onEachShard(boolean readOnly, IntFunction<T> work) {
+        if (!isSharded()) {
+            return Collections.singletonList(work.apply(0));
+        }
+        StatementStats stats = StatementStats.current();
+        List<Future<T>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            futures.add(executor.submit(() -> {
+                StatementStats.set(stats);
+                try {
+                    return inTransaction(target, readOnly, () -> work.apply(target));
+                } finally {
+                    StatementStats.clear();
+                }
+            }));
+        }
+        List<T> results = new ArrayList<>(shardCount);
+        for (Future<T> future : futures) {
+            results.add(await(future));
+        }
+        return results;
+    }
+
+    @Scheduled(fixedDelayString = "${corebanking.sharding.range-refresh-interval:PT30S}")
+    public void reloadRanges() {
+        if (!isSharded()) {
+            return;
+        }
+        List<CardShardRange> rows = inTransaction(0, true, rangeRepository::findAll);
+        rangeMap = rows.isEmpty()
+            ? ShardRangeMap.initial(shardCount)
+            : ShardRangeMap.of(rows.stream()
+                .collect(Collectors.toMap(CardShardRange::getRangeStart, CardShardRange::getShard)));
+    }
+
+    public void saveRanges(ShardRangeMap ranges) {
+        List<CardShardRange> rows = ranges.toRangeStarts().entrySet().stream()
+            .map(range -> new CardShardRange(range.getKey(), range.getValue()))
+            .toList();
+        inTransaction(0, false, () -> {
+            rangeRepository.deleteAllInBatch();
+            return rangeRepository.saveAll(rows);
+        });
+        rangeMap = ranges;
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for shard", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Shard query failed", ex.getCause());
+        }
+    }
+}
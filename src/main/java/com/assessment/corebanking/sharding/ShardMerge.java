@@ -0,0 +1,54 @@
+package com.assessment.corebanking.sharding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+public final class ShardMerge {
+
+    private ShardMerge() {
+    }
+
+    public static <T> List<T> merge(List<List<T>> sortedRuns, Comparator<? super T> order, long skip, int limit) {
+        PriorityQueue<Cursor<T>> heads = new PriorityQueue<>(Math.max(1, sortedRuns.size()),
+            (left, right) -> order.compare(left.head(), right.head()));
+        for (List<T> run : sortedRuns) {
+            if (!run.isEmpty()) {
+                heads.add(new Cursor<>(run));
+            }
+        }
+        List<T> merged = new ArrayList<>(limit);
+        long skipped = 0;
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Cursor<T> cursor = heads.poll();
+            T next = cursor.head();
+            if (skipped < skip) {
+                skipped++;
+            } else {
+                merged.add(next);
+            }
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    private static final class Cursor<T> {
+        private final List<T> run;
+        private int position;
+
+        Cursor(List<T> run) {
+            this.run = run;
+        }
+
+        T head() {
+            return run.get(position);
+        }
+
+        boolean advance() {
+            return ++position < run.size();
+        }
+    }
+}
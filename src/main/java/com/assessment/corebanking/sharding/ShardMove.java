@@ -0,0 +1,38 @@
+package com.assessment.corebanking.sharding;
+
+public class ShardMove {
+
+    private final int fromShard;
+    private final int toShard;
+    private final long rangeStart;
+    private final long rangeEnd;
+    private final int cards;
+
+    public ShardMove(int fromShard, int toShard, long rangeStart, long rangeEnd, int cards) {
+        this.fromShard = fromShard;
+        this.toShard = toShard;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.cards = cards;
+    }
+
+    public int getFromShard() {
+        return fromShard;
+    }
+
+    public int getToShard() {
+        return toShard;
+    }
+
+    public long getRangeStart() {
+        return rangeStart;
+    }
+
+    public long getRangeEnd() {
+        return rangeEnd;
+    }
+
+    public int getCards() {
+        return cards;
+    }
+}
@@ -0,0 +1,100 @@
+package com.assessment.corebanking.sharding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps card ids to shards. Each shard allocates ids from its own block of {@link #RANGE_SIZE}
+ * ids, so a card is found without a lookup table; rebalancing reassigns sub-ranges to other shards.
+ */
+public final class ShardRangeMap {
+
+    public static final long RANGE_SIZE = 1L << 40;
+
+    private final long[] starts;
+    private final int[] shards;
+
+    private ShardRangeMap(long[] starts, int[] shards) {
+        this.starts = starts;
+        this.shards = shards;
+    }
+
+    public static ShardRangeMap initial(int shardCount) {
+        long[] starts = new long[shardCount];
+        int[] shards = new int[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            starts[shard] = rangeStart(shard);
+            shards[shard] = shard;
+        }
+        return new ShardRangeMap(starts, shards);
+    }
+
+    public static ShardRangeMap of(Map<Long, Integer> rangeStarts) {
+        List<Long> sorted = new ArrayList<>(rangeStarts.keySet());
+        sorted.sort(null);
+        if (sorted.isEmpty() || sorted.get(0) != 0L) {
+            throw new IllegalArgumentException("Shard ranges must start at id 0");
+        }
+        long[] starts = new long[sorted.size()];
+        int[] shards = new int[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            starts[i] = sorted.get(i);
+            shards[i] = rangeStarts.get(sorted.get(i));
+        }
+        return new ShardRangeMap(starts, shards);
+    }
+
+    public static long rangeStart(int shard) {
+        return shard * RANGE_SIZE;
+    }
+
+    public int shardFor(long id) {
+        int index = Arrays.binarySearch(starts, id);
+        return shards[index >= 0 ? index : -index - 2];
+    }
+
+    public Map<Long, Integer> toRangeStarts() {
+        Map<Long, Integer> ranges = new LinkedHashMap<>();
+        for (int i = 0; i < starts.length; i++) {
+            ranges.put(starts[i], shards[i]);
+        }
+        return ranges;
+    }
+
+    public long[] rangeContaining(long id) {
+        int index = Arrays.binarySearch(starts, id);
+        int i = index >= 0 ? index : -index - 2;
+        return new long[] {starts[i], i + 1 < starts.length ? starts[i + 1] : Long.MAX_VALUE};
+    }
+
+    public ShardRangeMap reassign(long from, long to, int shard) {
+        Map<Long, Integer> ranges = new LinkedHashMap<>();
+        int previous = -1;
+        for (int i = 0; i < starts.length; i++) {
+            long start = starts[i];
+            long end = i + 1 < starts.length ? starts[i + 1] : Long.MAX_VALUE;
+            if (end <= from || start >= to) {
+                previous = put(ranges, start, shards[i], previous);
+                continue;
+            }
+            if (start < from) {
+                previous = put(ranges, start, shards[i], previous);
+            }
+            previous = put(ranges, Math.max(start, from), shard, previous);
+            if (end > to) {
+                previous = put(ranges, to, shards[i], previous);
+            }
+        }
+        return of(ranges);
+    }
+
+    private static int put(Map<Long, Integer> ranges, long start, int shard, int previous) {
+        if (shard != previous) {
+            ranges.put(start, shard);
+        }
+        return shard;
+    }
+}
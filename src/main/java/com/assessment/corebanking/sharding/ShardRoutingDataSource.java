@@ -0,0 +1,34 @@
+package com.assessment.corebanking.sharding;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final int shardCount;
+
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        this.shardCount = shards.size();
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            targets.put(shard, shards.get(shard));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(shards.get(0));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = ShardContext.current();
+        return shard == null ? 0 : shard;
+    }
+}
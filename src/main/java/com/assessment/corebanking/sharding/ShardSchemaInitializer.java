@@ -0,0 +1,85 @@
+package com.assessment.corebanking.sharding;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.tool.schema.Action;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Brings every shard's schema up to the current mappings at startup. Hibernate's own {@code ddl-auto} only
+ * reaches the shard the routing data source falls back to, so tables added after a shard was created would
+ * otherwise never appear there. {@code none} and {@code validate} are honoured; any other setting updates.
+ */
+public class ShardSchemaInitializer implements InitializingBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShardSchemaInitializer.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardSchemaIntegrator schemaIntegrator;
+    private final CardShardRouter router;
+
+    public ShardSchemaInitializer(EntityManagerFactory entityManagerFactory, ShardSchemaIntegrator schemaIntegrator,
+                                  DataSource dataSource, CardShardRouter router) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.schemaIntegrator = schemaIntegrator;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.router = router;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Map<String, Object> properties = new HashMap<>(entityManagerFactory.getProperties());
+        Action configured = Action.interpretHbm2ddlSetting(properties.get(AvailableSettings.HBM2DDL_AUTO));
+        Action action = configured == Action.NONE || configured == Action.VALIDATE ? configured : Action.UPDATE;
+        properties.put(AvailableSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, action);
+        properties.put(AvailableSettings.JAKARTA_HBM2DDL_SCRIPTS_ACTION, Action.NONE);
+        properties.put(AvailableSettings.JAKARTA_HBM2DDL_CREATE_SCHEMAS, true);
+        for (int shard = 0; shard < router.getShardCount(); shard++) {
+            int target = shard;
+            router.onShard(target, () -> {
+                if (action != Action.NONE) {
+                    LOGGER.info("Applying card schema action {} on shard {}", action, target);
+                    SchemaManagementToolCoordinator.process(schemaIntegrator.getMetadata(),
+                        entityManagerFactory.unwrap(SessionFactoryImplementor.class).getServiceRegistry(),
+                        properties, dropAction -> { });
+                }
+                reseedIdentity(target);
+                return null;
+            });
+        }
+        router.reloadRanges();
+    }
+
+    private void reseedIdentity(int shard) {
+        if (shard == 0) {
+            return;
+        }
+        long start = ShardRangeMap.rangeStart(shard);
+        Long used = jdbcTemplate.queryForObject(
+            "select max(id) from (select max(id) as id from cards where id >= ?"
+                + " union all select max(card_id) from card_tombstones where card_id >= ?) used",
+            Long.class, start, start);
+        if (used != null) {
+            return;
+        }
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        if ("Microsoft SQL Server".equals(product)) {
+            jdbcTemplate.execute("DBCC CHECKIDENT ('cards', RESEED, " + start + ")");
+        } else if ("H2".equals(product) || "PostgreSQL".equals(product)) {
+            jdbcTemplate.execute("alter table cards alter column id restart with " + start);
+        } else {
+            throw new IllegalStateException("Cannot assign a card id range on " + product);
+        }
+        LOGGER.info("Card ids on shard {} start at {}", shard, start);
+    }
+}
@@ -0,0 +1,34 @@
+package com.assessment.corebanking.sharding;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Keeps the boot metadata Hibernate built the session factory from, which the schema tool needs and the session
+ * factory does not expose, so {@link ShardSchemaInitializer} can update every shard from the same mappings.
+ */
+public class ShardSchemaIntegrator implements Integrator {
+
+    private volatile Metadata metadata;
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        this.metadata = metadata;
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        this.metadata = null;
+    }
+
+    public Metadata getMetadata() {
+        if (metadata == null) {
+            throw new IllegalStateException("Hibernate has not been bootstrapped with the shard schema integrator");
+        }
+        return metadata;
+    }
+}
@@ -9,7 +9,7 @@ class LoggingAspectTest {
 
     @Test
     void maskCardNumberRedactsExceptLastFour() {
-        LoggingAspect aspect = new LoggingAspect(new ObjectMapper());
+        LoggingAspect aspect = new LoggingAspect(new ObjectMapper(), null);
         String input = "{\"cardNumber\":\"4293127308501088\",\"cardholderName\":\"Danial\"}";
 
         String output = aspect.maskCardNumber(input);
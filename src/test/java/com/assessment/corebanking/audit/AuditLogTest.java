@@ -0,0 +1,79 @@
+package com.assessment.corebanking.audit;
+
+import com.assessment.corebanking.config.AuditProperties;
+import com.assessment.corebanking.enums.AuditOverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void blockingLogWritesEveryRecordAcrossRotatingSegments() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AuditLog auditLog = new AuditLog(properties(AuditOverflowPolicy.BLOCK, 4, 5), registry);
+        for (int i = 0; i < 1000; i++) {
+            auditLog.append(new AuditRecord(i, AuditRecord.Type.REQUEST, "GET /api/cards/" + i,
+                "CardController.getCard(..)", "[" + i + "]"));
+        }
+        auditLog.destroy();
+
+        List<AuditRecord> records = AuditLogReader.readAll(directory);
+        assertThat(AuditSegmentWriter.segments(directory)).hasSize(5);
+        assertThat(records).isNotEmpty().allMatch(record -> record.request().equals("GET /api/cards/" + record.timestamp()));
+        assertThat(records.get(records.size() - 1).payload()).isEqualTo("[999]");
+        assertThat(registry.counter("corebanking.audit.written").count()).isEqualTo(1000);
+        assertThat(registry.counter("corebanking.audit.dropped").count()).isZero();
+    }
+
+    @Test
+    void droppingLogCountsWhatItCannotQueue() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AuditLog auditLog = new AuditLog(properties(AuditOverflowPolicy.DROP, 2, 100), registry);
+        for (int i = 0; i < 10_000; i++) {
+            auditLog.append(new AuditRecord(i, AuditRecord.Type.RESPONSE, "GET /api/cards", "sig", "{}"));
+        }
+        auditLog.append(new AuditRecord(0, AuditRecord.Type.ERROR, "GET /api/cards", "sig", "x".repeat(20_000)));
+        auditLog.destroy();
+
+        double written = registry.counter("corebanking.audit.written").count();
+        double dropped = registry.counter("corebanking.audit.dropped").count();
+        assertThat(dropped).isPositive();
+        assertThat(written + dropped).isEqualTo(10_001);
+        assertThat(AuditLogReader.readAll(directory)).hasSize((int) written);
+    }
+
+    @Test
+    void blockingLogDropsOnceTheWriterHasStopped() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AuditLog auditLog = new AuditLog(properties(AuditOverflowPolicy.BLOCK, 2, 5), registry);
+        auditLog.destroy();
+
+        long started = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            auditLog.append(new AuditRecord(i, AuditRecord.Type.REQUEST, "GET /api/cards", "sig", "[]"));
+        }
+
+        assertThat(System.nanoTime() - started).isLessThan(TimeUnit.SECONDS.toNanos(1));
+        assertThat(registry.counter("corebanking.audit.dropped").count()).isGreaterThanOrEqualTo(8);
+    }
+
+    private AuditProperties properties(AuditOverflowPolicy overflow, int bufferCapacity, int maxSegments) {
+        AuditProperties properties = new AuditProperties();
+        properties.setDirectory(directory);
+        properties.setSegmentSize(DataSize.ofKilobytes(16));
+        properties.setMaxSegments(maxSegments);
+        properties.setBufferCapacity(bufferCapacity);
+        properties.setOverflow(overflow);
+        return properties;
+    }
+}
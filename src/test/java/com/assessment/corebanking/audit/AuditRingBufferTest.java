@@ -0,0 +1,58 @@
+package com.assessment.corebanking.audit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditRingBufferTest {
+
+    @Test
+    void rejectsOffersWhenFullAndFreesSlotsOnDrain() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained::add, 2)).isEqualTo(2);
+        assertThat(buffer.offer(4)).isTrue();
+        buffer.drain(drained::add, 10);
+
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void concurrentProducersKeepTheirOwnOrder() throws Exception {
+        AuditRingBuffer<long[]> buffer = new AuditRingBuffer<>(64);
+        int producers = 4;
+        int perProducer = 20_000;
+        long[] lastSeen = new long[producers];
+        Arrays.fill(lastSeen, -1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(producers)) {
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                executor.submit(() -> {
+                    for (long i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(new long[] {producer, i})) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                });
+            }
+            int received = 0;
+            while (received < producers * perProducer) {
+                received += buffer.drain(element -> {
+                    assertThat(element[1]).isEqualTo(lastSeen[(int) element[0]] + 1);
+                    lastSeen[(int) element[0]] = element[1];
+                }, 32);
+            }
+        }
+        assertThat(lastSeen).containsOnly(perProducer - 1L);
+    }
+}
@@ -0,0 +1,91 @@
+package com.assessment.corebanking.benchmark;
+
+import com.assessment.corebanking.bin.BinInfo;
+import com.assessment.corebanking.bin.BinTable;
+import com.assessment.corebanking.bin.Luhn;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * BIN classification and Luhn checks over a batch of card numbers, against a table of {@code ranges} issuer-level
+ * ranges nested inside network ranges.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinTableBenchmark {
+
+    private static final int CARDS = 4096;
+
+    @Param({"1000", "100000"})
+    private int ranges;
+
+    private BinTable table;
+    private String[] cardNumbers;
+
+    @Setup
+    public void setUp() throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        StringBuilder file = new StringBuilder("4,4,VISA,,\n51,55,MASTERCARD,,\n34,34,AMEX,,\n37,37,AMEX,,\n");
+        String[] products = {"CREDIT", "DEBIT", "PREPAID"};
+        for (int i = 0; i < ranges; i++) {
+            int bin = 40_000_000 + random.nextInt(16_000_000);
+            int width = random.nextInt(100);
+            file.append(bin).append(',').append(Math.min(bin + width, 55_999_999)).append(',')
+                .append(bin < 50_000_000 ? "VISA" : "MASTERCARD").append(",Issuer ").append(i % 500).append(',')
+                .append(products[i % products.length]).append('\n');
+        }
+        table = BinTable.parse(new StringReader(file.toString()));
+        cardNumbers = new String[CARDS];
+        for (int i = 0; i < CARDS; i++) {
+            String prefix = random.nextBoolean() ? "4" : "5" + (1 + random.nextInt(5));
+            StringBuilder payload = new StringBuilder(prefix);
+            while (payload.length() < 15) {
+                payload.append(random.nextInt(10));
+            }
+            cardNumbers[i] = Luhn.withCheckDigit(payload);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CARDS)
+    public int lookup() {
+        int classified = 0;
+        for (String cardNumber : cardNumbers) {
+            BinInfo info = table.lookup(cardNumber);
+            if (info != null && info.product() != null) {
+                classified++;
+            }
+        }
+        return classified;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CARDS)
+    public int luhn() {
+        int valid = 0;
+        for (String cardNumber : cardNumbers) {
+            if (Luhn.isValid(cardNumber)) {
+                valid++;
+            }
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,132 @@
+package com.assessment.corebanking.benchmark;
+
+import com.assessment.corebanking.CoreBankingApplication;
+import com.assessment.corebanking.bin.Luhn;
+import com.assessment.corebanking.dto.CardRequest;
+import com.assessment.corebanking.enums.CardStatus;
+import com.assessment.corebanking.enums.CardType;
+import com.assessment.corebanking.money.Money;
+import com.assessment.corebanking.service.CardService;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CardApiConcurrencyBenchmark {
+
+    private static final int CARDS = 200;
+
+    @Param({"servlet", "reactive"})
+    private String stack;
+
+    @Param({"256", "1024"})
+    private int concurrency;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private final List<Long> ids = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        String database = "bench_" + stack;
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(CoreBankingApplication.class);
+        if ("reactive".equals(stack)) {
+            builder.profiles("reactive");
+        }
+        context = builder.run(
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.r2dbc.url=r2dbc:h2:mem:///" + database,
+            "--spring.r2dbc.username=sa",
+            "--spring.r2dbc.password=",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.jpa.show-sql=false",
+            "--logging.file.name=target/benchmark.log",
+            "--logging.level.com.assessment.corebanking=WARN",
+            "--corebanking.concurrency-limit.enabled=false");
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+        // The reactive API is read-only, so both stacks are seeded through the servlet service layer.
+        CardService cardService = context.getBean(CardService.class);
+        for (int i = 0; i < CARDS; i++) {
+            CardRequest request = new CardRequest();
+            request.setCardNumber(Luhn.withCheckDigit("4000%011d".formatted(i)));
+            request.setCardholderName("Danial Ariff");
+            request.setExpiryDate(LocalDate.of(2031, 6, 30));
+            request.setStatus(CardStatus.ACTIVE);
+            request.setCardType(CardType.DEBIT);
+            request.setBalance(Money.of("15420.75"));
+            ids.add(cardService.createCard(request).getId());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int getCard() {
+        return fire(i -> "/api/cards/" + ids.get(i % ids.size()));
+    }
+
+    @Benchmark
+    public int listCards() {
+        return fire(i -> "/api/cards?page=" + (i % (CARDS / 10)) + "&sort=cardholderName");
+    }
+
+    private int fire(IntFunction<String> path) {
+        List<CompletableFuture<Integer>> responses = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path.apply(i))).GET().build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenApply(HttpResponse::statusCode));
+        }
+        int ok = 0;
+        for (CompletableFuture<Integer> response : responses) {
+            if (response.join() == 200) {
+                ok++;
+            }
+        }
+        if (ok != concurrency) {
+            throw new IllegalStateException((concurrency - ok) + " of " + concurrency + " requests failed");
+        }
+        return ok;
+    }
+}
@@ -0,0 +1,111 @@
+package com.assessment.corebanking.benchmark;
+
+import com.assessment.corebanking.dto.CardResponse;
+import com.assessment.corebanking.enums.CardStatus;
+import com.assessment.corebanking.enums.CardType;
+import com.assessment.corebanking.money.Money;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CardCodecBenchmark {
+
+    private static final TypeReference<List<CardResponse>> CARDS = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"100", "1000"})
+    private int cards;
+
+    private ObjectMapper mapper;
+    private List<CardResponse> payload;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = Jackson2ObjectMapperBuilder.json().factory(factory(format)).build();
+        payload = new ArrayList<>(cards);
+        for (int i = 0; i < cards; i++) {
+            payload.add(card(i));
+        }
+        encoded = mapper.writeValueAsBytes(payload);
+        System.out.printf("%n%s, %d cards: %d bytes, %d bytes gzipped%n",
+            format, cards, encoded.length, gzip(encoded).length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public List<CardResponse> decode() throws IOException {
+        return mapper.readValue(encoded, CARDS);
+    }
+
+    @Benchmark
+    public byte[] encodeAndGzip() throws IOException {
+        return gzip(mapper.writeValueAsBytes(payload));
+    }
+
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static CardResponse card(int i) {
+        CardResponse card = new CardResponse();
+        card.setId(1_000_000L + i);
+        card.setCardNumber("************" + String.format("%04d", i % 10_000));
+        card.setCardholderName("Cardholder " + i);
+        card.setExpiryDate(LocalDate.of(2030, 1, 31).plusMonths(i % 60));
+        card.setStatus(CardStatus.values()[i % CardStatus.values().length]);
+        card.setCardType(i % 3 == 0 ? CardType.CREDIT : CardType.DEBIT);
+        card.setCreditLimit(i % 3 == 0 ? Money.of("25000.00") : null);
+        card.setBalance(Money.ofMinor(1_542_075L + i * 37L));
+        card.setCreatedAt(LocalDateTime.of(2025, 1, 1, 9, 0).plusMinutes(i));
+        card.setUpdatedAt(LocalDateTime.of(2025, 6, 1, 9, 0).plusSeconds(i));
+        return card;
+    }
+}
@@ -0,0 +1,116 @@
+package com.assessment.corebanking.benchmark;
+
+import com.assessment.corebanking.money.Money;
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Balance and limit arithmetic over a batch of cards, with {@link BigDecimal} amounts against {@link Money}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({"1024"})
+    private int cards;
+
+    private BigDecimal[] decimalBalances;
+    private BigDecimal[] decimalLimits;
+    private Money[] moneyBalances;
+    private Money[] moneyLimits;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        decimalBalances = new BigDecimal[cards];
+        decimalLimits = new BigDecimal[cards];
+        moneyBalances = new Money[cards];
+        moneyLimits = new Money[cards];
+        for (int i = 0; i < cards; i++) {
+            long balance = random.nextLong(10_000_000L);
+            long limit = random.nextLong(10_000_000L);
+            decimalBalances[i] = BigDecimal.valueOf(balance, 2);
+            decimalLimits[i] = BigDecimal.valueOf(limit, 2);
+            moneyBalances[i] = Money.ofMinor(balance);
+            moneyLimits[i] = Money.ofMinor(limit);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal totalBalanceBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal balance : decimalBalances) {
+            total = total.add(balance);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money totalBalanceMoney() {
+        Money total = Money.ofMinor(0);
+        for (Money balance : moneyBalances) {
+            total = total.plus(balance);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int overLimitBigDecimal() {
+        int over = 0;
+        for (int i = 0; i < cards; i++) {
+            if (decimalBalances[i].compareTo(decimalLimits[i]) > 0) {
+                over++;
+            }
+        }
+        return over;
+    }
+
+    @Benchmark
+    public int overLimitMoney() {
+        int over = 0;
+        for (int i = 0; i < cards; i++) {
+            if (moneyBalances[i].compareTo(moneyLimits[i]) > 0) {
+                over++;
+            }
+        }
+        return over;
+    }
+
+    @Benchmark
+    public int availableCreditBigDecimal() {
+        int exhausted = 0;
+        for (int i = 0; i < cards; i++) {
+            if (decimalLimits[i].subtract(decimalBalances[i]).signum() <= 0) {
+                exhausted++;
+            }
+        }
+        return exhausted;
+    }
+
+    @Benchmark
+    public int availableCreditMoney() {
+        int exhausted = 0;
+        for (int i = 0; i < cards; i++) {
+            if (moneyLimits[i].minus(moneyBalances[i]).signum() <= 0) {
+                exhausted++;
+            }
+        }
+        return exhausted;
+    }
+}
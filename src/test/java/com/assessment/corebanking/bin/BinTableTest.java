@@ -0,0 +1,64 @@
+package com.assessment.corebanking.bin;
+
+import com.assessment.corebanking.enums.CardType;
+import java.io.StringReader;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinTableTest {
+
+    private static final String RANGES = """
+        # low,high,network,issuer,product
+        4,4,VISA,,
+        429312,429312,VISA,Maybank,CREDIT
+        42931273,42931273,VISA,Maybank,PREPAID
+        51,55,MASTERCARD,,
+        2221,2720,MASTERCARD,,
+        """;
+
+    @Test
+    void narrowestRangeWinsAndGapsAreUnclassified() throws Exception {
+        BinTable table = BinTable.parse(new StringReader(RANGES));
+
+        assertThat(table.lookup("4111111111111111")).isEqualTo(new BinInfo("VISA", null, null));
+        assertThat(table.lookup("4293127308501088")).isEqualTo(new BinInfo("VISA", "Maybank", CardType.PREPAID));
+        assertThat(table.lookup("4293120000000000")).isEqualTo(new BinInfo("VISA", "Maybank", CardType.CREDIT));
+        assertThat(table.lookup("4293130000000000").issuer()).isNull();
+        assertThat(table.lookup("2720991234567890").network()).isEqualTo("MASTERCARD");
+        assertThat(table.lookup("2721001234567890")).isNull();
+        assertThat(table.lookup("370144404935247")).isNull();
+        assertThat(table.size()).isEqualTo(7);
+    }
+
+    @Test
+    void looksUpStoredBinsAndIgnoresMalformedInput() throws Exception {
+        BinTable table = BinTable.parse(new StringReader(RANGES));
+
+        assertThat(table.lookup("42931273")).isSameAs(table.lookup("4293127308501088"));
+        assertThat(table.lookup("429312").issuer()).isEqualTo("Maybank");
+        assertThat(table.lookup("42931")).isNull();
+        assertThat(table.lookup("4293-1273")).isNull();
+        assertThat(table.lookup(null)).isNull();
+        assertThat(BinTable.empty().lookup("4293127308501088")).isNull();
+    }
+
+    @Test
+    void rejectsMalformedLinesWithTheirLineNumber() {
+        assertThatThrownBy(() -> BinTable.parse(new StringReader("4,4,VISA,,\n55,51,MASTERCARD,,\n")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid BIN range on line 2: low is above high");
+        assertThatThrownBy(() -> BinTable.parse(new StringReader("4,4,VISA,,CHARGE\n")))
+            .hasMessageStartingWith("Invalid BIN range on line 1");
+    }
+
+    @Test
+    void luhnAcceptsValidNumbersAndAppendsCheckDigits() {
+        assertThat(Luhn.isValid("4293127308501088")).isTrue();
+        assertThat(Luhn.isValid("370144404935247")).isTrue();
+        assertThat(Luhn.isValid("4293127308501089")).isFalse();
+        assertThat(Luhn.isValid("4293 1273 0850 1088")).isFalse();
+        assertThat(Luhn.withCheckDigit("429312730850108")).isEqualTo("4293127308501088");
+    }
+}
@@ -0,0 +1,43 @@
+package com.assessment.corebanking.concurrency;
+
+import com.assessment.corebanking.config.ConcurrencyLimitProperties;
+import com.assessment.corebanking.enums.EndpointClass;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    @Test
+    void shedsRequestsBeyondTheLimitWithRetryAfter() throws Exception {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        ConcurrencyLimitProperties.Limit single = new ConcurrencyLimitProperties.Limit();
+        single.setInitialLimit(1);
+        single.setMinLimit(1);
+        single.setMaxLimit(1);
+        properties.getLimits().put(EndpointClass.READ, single);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties);
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/cards/1"), new MockHttpServletResponse(),
+            (request, response) -> filter.doFilter(new MockHttpServletRequest("GET", "/api/cards/2"), rejected,
+                (innerRequest, innerResponse) -> { }));
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(rejected.getContentAsString()).contains("Service overloaded");
+        assertThat(filter.getLimit(EndpointClass.READ).getInFlight()).isZero();
+    }
+
+    @Test
+    void classifiesEndpoints() {
+        assertThat(ConcurrencyLimitFilter.classify(new MockHttpServletRequest("GET", "/api/cards")))
+            .isEqualTo(EndpointClass.READ);
+        assertThat(ConcurrencyLimitFilter.classify(new MockHttpServletRequest("GET", "/api/cards/7/notifications")))
+            .isEqualTo(EndpointClass.NOTIFICATIONS);
+        assertThat(ConcurrencyLimitFilter.classify(new MockHttpServletRequest("PATCH", "/api/cards/7")))
+            .isEqualTo(EndpointClass.WRITE);
+    }
+}
@@ -0,0 +1,54 @@
+package com.assessment.corebanking.concurrency;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GradientConcurrencyLimitTest {
+
+    @Test
+    void rejectsOnceInFlightReachesLimit() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(2, 1, 10, 1.5, 0.2);
+
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+
+        limit.release(TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void growsWhileLatencyIsStable() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(10, 1, 100, 1.5, 0.2);
+
+        saturate(limit, 200, TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertThat(limit.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    void shrinksWhenLatencyClimbs() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(50, 5, 100, 1.5, 0.2);
+        saturate(limit, 100, TimeUnit.MILLISECONDS.toNanos(10));
+        int baseline = limit.getLimit();
+
+        saturate(limit, 50, TimeUnit.MILLISECONDS.toNanos(200));
+
+        assertThat(limit.getLimit()).isLessThan(baseline);
+    }
+
+    private void saturate(GradientConcurrencyLimit limit, int rounds, long rttNanos) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limit.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limit.release(rttNanos);
+            }
+        }
+    }
+}
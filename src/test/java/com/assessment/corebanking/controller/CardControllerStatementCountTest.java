@@ -0,0 +1,175 @@
+package com.assessment.corebanking.controller;
+
+import com.assessment.corebanking.entity.Card;
+import com.assessment.corebanking.entity.CardPan;
+import com.assessment.corebanking.enums.CardStatus;
+import com.assessment.corebanking.enums.CardType;
+import com.assessment.corebanking.money.Money;
+import com.assessment.corebanking.repository.CardPanRepository;
+import com.assessment.corebanking.repository.CardRepository;
+import com.assessment.corebanking.repository.CardTombstoneRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.client.AutoConfigureMockRestServiceServer;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.assessment.corebanking.datasource.StatementCountMatchers.sqlStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "corebanking.sql-metrics.response-header=true")
+@AutoConfigureMockMvc
+@AutoConfigureMockRestServiceServer
+@ActiveProfiles("test")
+class CardControllerStatementCountTest {
+
+    private static final String CARD_JSON = "{\"cardNumber\":\"%s\",\"cardholderName\":\"%s\","
+        + "\"expiryDate\":\"2031-06-30\",\"status\":\"ACTIVE\",\"cardType\":\"DEBIT\",\"balance\":15420.75}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private CardPanRepository cardPanRepository;
+
+    @Autowired
+    private CardTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private MockRestServiceServer mockServer;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Card card;
+
+    @BeforeEach
+    void setup() {
+        card = saveCard("4293127308501088");
+        saveCard("5400071730269186");
+    }
+
+    @AfterEach
+    void cleanup() {
+        cardRepository.deleteAll();
+        cardPanRepository.deleteAll();
+        tombstoneRepository.deleteAll();
+    }
+
+    @Test
+    void readEndpoints() throws Exception {
+        mockMvc.perform(get("/api/cards"))
+            .andExpect(status().isOk())
+            .andExpect(sqlStatements(1));
+        mockMvc.perform(get("/api/cards").param("fields", "id,status"))
+            .andExpect(status().isOk())
+            .andExpect(sqlStatements(1));
+        mockMvc.perform(get("/api/cards/{id}", card.getId()))
+            .andExpect(status().isOk())
+            .andExpect(sqlStatements(1));
+        mockMvc.perform(get("/api/cards/{id}", card.getId()).param("fields", "id,status"))
+            .andExpect(status().isOk())
+            .andExpect(sqlStatements(1));
+        mockMvc.perform(get("/api/cards").param("ids", card.getId() + "," + (Long.MAX_VALUE - 1) + "," + card.getId()))
+            .andExpect(status().isOk())
+            .andExpect(sqlStatements(2));
+        mockMvc.perform(get("/api/cards/changes"))
+            .andExpect(status().isOk())
+            .andExpect(sqlStatements(2));
+        mockMvc.perform(get("/api/cards/{id}", Long.MAX_VALUE))
+            .andExpect(status().isNotFound())
+            .andExpect(sqlStatements(2));
+        mockMvc.perform(get("/api/cards/{id}", Long.MAX_VALUE))
+            .andExpect(status().isNotFound())
+            .andExpect(sqlStatements(0));
+    }
+
+    @Test
+    void statementCountsAreRecordedPerRoute() throws Exception {
+        mockMvc.perform(get("/api/cards/{id}", card.getId()))
+            .andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.find("http.server.requests.jdbc.statements")
+            .tags("method", "GET", "uri", "/api/cards/{id}", "status", "200")
+            .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.count()).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.find("http.server.requests.jdbc.time")
+            .tags("method", "GET", "uri", "/api/cards/{id}", "status", "200")
+            .timer()).isNotNull();
+    }
+
+    @Test
+    void notifications() throws Exception {
+        mockServer.expect(requestTo("https://jsonplaceholder.typicode.com/posts?userId="
+                + (Math.floorMod(card.getId(), 10) + 1)))
+            .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        mockMvc.perform(get("/api/cards/{id}/notifications", card.getId()))
+            .andExpect(status().isOk())
+            .andExpect(sqlStatements(1));
+    }
+
+    @Test
+    void writeEndpoints() throws Exception {
+        mockMvc.perform(post("/api/cards")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(CARD_JSON.formatted("4485275742308327", "Danial Ariff")))
+            .andExpect(status().isCreated())
+            .andExpect(sqlStatements(2));
+        mockMvc.perform(put("/api/cards/{id}", card.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(CARD_JSON.formatted("4293127308501088", "Nur Aisyah")))
+            .andExpect(status().isOk())
+            .andExpect(sqlStatements(3));
+        mockMvc.perform(patch("/api/cards/{id}", card.getId())
+                .contentType("application/merge-patch+json")
+                .content("{\"status\":\"BLOCKED\"}"))
+            .andExpect(status().isOk())
+            .andExpect(sqlStatements(2));
+        mockMvc.perform(post("/api/cards/status:bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[" + card.getId() + "],\"status\":\"ACTIVE\"}"))
+            .andExpect(status().isOk())
+            .andExpect(sqlStatements(1));
+        mockMvc.perform(delete("/api/cards/{id}", card.getId()))
+            .andExpect(status().isNoContent())
+            .andExpect(sqlStatements(4));
+        mockMvc.perform(delete("/api/cards/{id}", card.getId()))
+            .andExpect(status().isNotFound())
+            .andExpect(sqlStatements(2));
+    }
+
+    private Card saveCard(String cardNumber) {
+        Card saved = new Card();
+        saved.setMaskedNumber("************" + cardNumber.substring(cardNumber.length() - 4));
+        saved.setCardholderName("Danial Ariff");
+        saved.setExpiryDate(LocalDate.of(2031, 6, 30));
+        saved.setStatus(CardStatus.ACTIVE);
+        saved.setCardType(CardType.DEBIT);
+        saved.setBalance(Money.of("15420.75"));
+        saved = cardRepository.save(saved);
+        cardPanRepository.save(new CardPan(saved.getId(), cardNumber));
+        return saved;
+    }
+}
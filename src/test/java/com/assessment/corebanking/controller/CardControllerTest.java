@@ -1,12 +1,20 @@
 package com.assessment.corebanking.controller;
 
 import com.assessment.corebanking.dto.CardRequest;
+import com.assessment.corebanking.dto.CardResponse;
 import com.assessment.corebanking.entity.Card;
+import com.assessment.corebanking.entity.CardPan;
 import com.assessment.corebanking.enums.CardStatus;
 import com.assessment.corebanking.enums.CardType;
+import com.assessment.corebanking.money.Money;
+import com.assessment.corebanking.repository.CardPanRepository;
 import com.assessment.corebanking.repository.CardRepository;
+import com.assessment.corebanking.repository.CardTombstoneRepository;
+import com.assessment.corebanking.service.CardBinBackfill;
+import com.assessment.corebanking.service.JpaIdempotencyStore;
+import com.jayway.jsonpath.JsonPath;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.math.BigDecimal;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import java.time.LocalDate;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -14,25 +22,33 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.client.AutoConfigureMockRestServiceServer;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.client.ExpectedCount;
 import org.springframework.test.web.client.MockRestServiceServer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -51,17 +67,31 @@ class CardControllerTest {
     @Autowired
     private CardRepository cardRepository;
 
+    @Autowired
+    private CardPanRepository cardPanRepository;
+
+    @Autowired
+    private CardTombstoneRepository tombstoneRepository;
+
     @Autowired
     private MockRestServiceServer mockServer;
 
+    @Autowired
+    private CardBinBackfill cardBinBackfill;
+
+    @SpyBean
+    private JpaIdempotencyStore idempotencyStore;
+
     @AfterEach
     void cleanup() {
         cardRepository.deleteAll();
+        cardPanRepository.deleteAll();
+        tombstoneRepository.deleteAll();
     }
 
     @Test
     void createCardReturnsMaskedCardNumber() throws Exception {
-        CardRequest request = buildRequest("4293127308501088", CardType.CREDIT, new BigDecimal("100000.00"));
+        CardRequest request = buildRequest("4293127308501088", CardType.CREDIT, Money.of("100000.00"));
 
         mockMvc.perform(post("/api/cards")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -71,6 +101,109 @@ class CardControllerTest {
             .andExpect(jsonPath("$.cardNumber").value(not(containsString("429312730850"))));
     }
 
+    @Test
+    void createCardClassifiesByBinAndRejectsBadCheckDigit() throws Exception {
+        CardRequest request = buildRequest("5400071730269186", CardType.CREDIT, Money.of("100000.00"));
+
+        mockMvc.perform(post("/api/cards")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.network").value("MASTERCARD"));
+
+        request.setCardNumber("5400071730269187");
+        mockMvc.perform(post("/api/cards")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("cardNumber is not a valid card number"));
+    }
+
+    @Test
+    void createCardWithIdempotencyKeyReplaysStoredResponse() throws Exception {
+        CardRequest request = buildRequest("4293127308501088", CardType.CREDIT, Money.of("100000.00"));
+        String body = objectMapper.writeValueAsString(request);
+
+        String first = mockMvc.perform(post("/api/cards")
+                .header("Idempotency-Key", "create-replay-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(post("/api/cards")
+                .header("Idempotency-Key", "create-replay-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isCreated())
+            .andExpect(header().string("Idempotent-Replayed", "true"))
+            .andExpect(content().json(first));
+
+        assertThat(cardRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void idempotentCreateRollsBackWhenItsRecordCannotBeStored() throws Exception {
+        String body = objectMapper.writeValueAsString(
+            buildRequest("4293127308501088", CardType.CREDIT, Money.of("100000.00")));
+        doThrow(new IllegalStateException("idempotency store unavailable")).when(idempotencyStore).save(any());
+
+        mockMvc.perform(post("/api/cards")
+                .header("Idempotency-Key", "create-atomic-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isInternalServerError());
+
+        assertThat(cardRepository.count()).isZero();
+        assertThat(cardPanRepository.count()).isZero();
+    }
+
+    @Test
+    void reusingIdempotencyKeyForDifferentRequestReturnsConflict() throws Exception {
+        CardRequest request = buildRequest("5400071730269186", CardType.DEBIT, null);
+
+        mockMvc.perform(post("/api/cards")
+                .header("Idempotency-Key", "create-conflict-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated());
+
+        request.setCardholderName("Someone Else");
+        mockMvc.perform(post("/api/cards")
+                .header("Idempotency-Key", "create-conflict-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    void createCardWithExistingCardNumberReturnsConflict() throws Exception {
+        String body = objectMapper.writeValueAsString(buildRequest("4532015112830366", CardType.DEBIT, null));
+
+        mockMvc.perform(post("/api/cards")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/cards")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.error").value("Card number already exists"));
+        assertThat(cardRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void createCardWithCardNumberUnknownToFilterStillReturnsConflict() throws Exception {
+        saveCard("4716108999716531", CardType.DEBIT);
+
+        mockMvc.perform(post("/api/cards")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(buildRequest("4716108999716531", CardType.DEBIT, null))))
+            .andExpect(status().isConflict());
+        assertThat(cardRepository.count()).isEqualTo(1);
+    }
+
     @Test
     void getCardByIdReturnsCard() throws Exception {
         Card saved = saveCard("370144404935247", CardType.CREDIT);
@@ -81,6 +214,119 @@ class CardControllerTest {
             .andExpect(jsonPath("$.cardholderName").value("Danial Ariff"));
     }
 
+    @Test
+    void getCardsByIdsReturnsRequestOrderWithNotFoundEntries() throws Exception {
+        Card first = saveCard("370144404935247", CardType.CREDIT);
+        Card second = saveCard("4293127308501088", CardType.DEBIT);
+        long missing = second.getId() + 1000;
+
+        mockMvc.perform(get("/api/cards").param("ids", second.getId() + "," + missing + "," + first.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(3))
+            .andExpect(jsonPath("$[0].id").value(second.getId()))
+            .andExpect(jsonPath("$[0].found").value(true))
+            .andExpect(jsonPath("$[0].card.cardNumber").value("************1088"))
+            .andExpect(jsonPath("$[1].id").value(missing))
+            .andExpect(jsonPath("$[1].found").value(false))
+            .andExpect(jsonPath("$[1].card").doesNotExist())
+            .andExpect(jsonPath("$[2].card.id").value(first.getId()));
+
+        mockMvc.perform(get("/api/cards").param("ids", ""))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void batchGetTakesIdsInBodyAndAppliesFields() throws Exception {
+        Card first = saveCard("370144404935247", CardType.CREDIT);
+        long missing = first.getId() + 1000;
+
+        mockMvc.perform(post("/api/cards/ids:batchGet")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[" + missing + "," + first.getId() + "],\"fields\":\"id,status\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].found").value(false))
+            .andExpect(jsonPath("$[1].card.id").value(first.getId()))
+            .andExpect(jsonPath("$[1].card.status").value("ACTIVE"))
+            .andExpect(jsonPath("$[1].card.cardholderName").doesNotExist());
+
+        mockMvc.perform(get("/api/cards").param("ids", first.getId().toString()).param("fields", "cardNumber"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].card.cardNumber").value("***********5247"))
+            .andExpect(jsonPath("$[0].card.id").doesNotExist());
+
+        mockMvc.perform(get("/api/cards").param("ids", first.getId().toString()).param("fields", "pan"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getCardWithFieldsReturnsOnlyRequestedFields() throws Exception {
+        Card saved = saveCard("370144404935247", CardType.CREDIT);
+
+        mockMvc.perform(get("/api/cards/{id}", saved.getId()).param("fields", "id,status,balance"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(saved.getId()))
+            .andExpect(jsonPath("$.status").value("ACTIVE"))
+            .andExpect(jsonPath("$.balance").exists())
+            .andExpect(jsonPath("$.cardholderName").doesNotExist())
+            .andExpect(jsonPath("$.cardNumber").doesNotExist());
+    }
+
+    @Test
+    void listCardsWithFieldsProjectsEveryRow() throws Exception {
+        saveCard("4293127308501088", CardType.DEBIT);
+        saveCard("5400071730269186", CardType.DEBIT);
+
+        mockMvc.perform(get("/api/cards")
+                .param("fields", "cardNumber, status")
+                .param("sort", "cardholderName"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(2))
+            .andExpect(jsonPath("$.content[0].cardNumber").value("************1088"))
+            .andExpect(jsonPath("$.content[0].id").doesNotExist())
+            .andExpect(jsonPath("$.content[1].status").value("ACTIVE"));
+    }
+
+    @Test
+    void binFieldsAreProjectedForBackfilledCards() throws Exception {
+        Card saved = saveCard("4293127308501088", CardType.DEBIT);
+        cardBinBackfill.backfill();
+
+        assertThat(cardRepository.findById(saved.getId())).get()
+            .extracting(Card::getBin).isEqualTo("42931273");
+        mockMvc.perform(get("/api/cards/{id}", saved.getId()).param("fields", "id,network"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.network").value("VISA"))
+            .andExpect(jsonPath("$.cardNumber").doesNotExist());
+        mockMvc.perform(get("/api/cards").param("fields", "network").param("sort", "id"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].network").value("VISA"));
+    }
+
+    @Test
+    void unknownFieldIsRejected() throws Exception {
+        Card saved = saveCard("370144404935247", CardType.CREDIT);
+
+        mockMvc.perform(get("/api/cards/{id}", saved.getId()).param("fields", "id,pan"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Unknown field: pan"));
+    }
+
+    @Test
+    void getCardNegotiatesCbor() throws Exception {
+        Card saved = saveCard("370144404935247", CardType.CREDIT);
+
+        byte[] body = mockMvc.perform(get("/api/cards/{id}", saved.getId())
+                .accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        CardResponse response = new CBORMapper().findAndRegisterModules().readValue(body, CardResponse.class);
+        assertThat(response.getId()).isEqualTo(saved.getId());
+        assertThat(response.getCardholderName()).isEqualTo("Danial Ariff");
+        assertThat(response.getExpiryDate()).isEqualTo(saved.getExpiryDate());
+    }
+
     @Test
     void updateCardUpdatesFields() throws Exception {
         Card saved = saveCard("5400071730269186", CardType.DEBIT);
@@ -94,6 +340,58 @@ class CardControllerTest {
             .andExpect(jsonPath("$.cardholderName").value("Updated Name"));
     }
 
+    @Test
+    void patchCardChangesOnlySuppliedFields() throws Exception {
+        Card saved = saveCard("4293127308501088", CardType.CREDIT);
+
+        mockMvc.perform(patch("/api/cards/{id}", saved.getId())
+                .contentType("application/merge-patch+json")
+                .content("{\"cardholderName\":\"Patched Name\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.cardholderName").value("Patched Name"))
+            .andExpect(jsonPath("$.cardType").value("CREDIT"))
+            .andExpect(jsonPath("$.creditLimit").value(100000.00))
+            .andExpect(jsonPath("$.balance").value(15420.75));
+    }
+
+    @Test
+    void patchCardRejectsCreditLimitOnDebitCard() throws Exception {
+        Card saved = saveCard("5400071730269186", CardType.DEBIT);
+
+        mockMvc.perform(patch("/api/cards/{id}", saved.getId())
+                .contentType("application/merge-patch+json")
+                .content("{\"creditLimit\":5000.00}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("creditLimit is only allowed for CREDIT cards"));
+    }
+
+    @Test
+    void patchIdempotencyKeyDistinguishesExplicitNullFromAbsentField() throws Exception {
+        Card saved = saveCard("4293127308501088", CardType.CREDIT);
+
+        mockMvc.perform(patch("/api/cards/{id}", saved.getId())
+                .header("Idempotency-Key", "patch-null-1")
+                .contentType("application/merge-patch+json")
+                .content("{\"cardholderName\":\"Patched Name\"}"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(patch("/api/cards/{id}", saved.getId())
+                .header("Idempotency-Key", "patch-null-1")
+                .contentType("application/merge-patch+json")
+                .content("{\"cardholderName\":\"Patched Name\",\"creditLimit\":null}"))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    void patchCardRejectsNullForRequiredField() throws Exception {
+        Card saved = saveCard("4485275742308327", CardType.DEBIT);
+
+        mockMvc.perform(patch("/api/cards/{id}", saved.getId())
+                .contentType("application/merge-patch+json")
+                .content("{\"cardholderName\":null}"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     void deleteCardRemovesCard() throws Exception {
         Card saved = saveCard("4485275742308327", CardType.DEBIT);
@@ -121,6 +419,45 @@ class CardControllerTest {
             .andExpect(jsonPath("$.content", hasSize(10)));
     }
 
+    @Test
+    void changesFeedPagesThroughUpsertsAndTombstones() throws Exception {
+        Card first = saveCard("4293127308501088", CardType.DEBIT);
+        Card second = saveCard("5400071730269186", CardType.DEBIT);
+
+        String firstPage = mockMvc.perform(get("/api/cards/changes").param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes", hasSize(1)))
+            .andExpect(jsonPath("$.changes[0].type").value("UPSERT"))
+            .andExpect(jsonPath("$.changes[0].id").value(first.getId()))
+            .andExpect(jsonPath("$.hasMore").value(true))
+            .andReturn().getResponse().getContentAsString();
+
+        String secondPage = mockMvc.perform(get("/api/cards/changes")
+                .param("since", JsonPath.<String>read(firstPage, "$.nextToken")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes", hasSize(1)))
+            .andExpect(jsonPath("$.changes[0].id").value(second.getId()))
+            .andExpect(jsonPath("$.changes[0].card.cardNumber").value(endsWith("9186")))
+            .andExpect(jsonPath("$.hasMore").value(false))
+            .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(delete("/api/cards/{id}", second.getId()))
+            .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/cards/changes")
+                .param("since", JsonPath.<String>read(secondPage, "$.nextToken")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes", hasSize(1)))
+            .andExpect(jsonPath("$.changes[0].type").value("DELETE"))
+            .andExpect(jsonPath("$.changes[0].id").value(second.getId()));
+    }
+
+    @Test
+    void changesFeedRejectsMalformedToken() throws Exception {
+        mockMvc.perform(get("/api/cards/changes").param("since", "not-a-token"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     void validationErrorsReturnBadRequest() throws Exception {
         mockMvc.perform(post("/api/cards")
@@ -133,7 +470,7 @@ class CardControllerTest {
 
     @Test
     void domainValidationReturnsBadRequest() throws Exception {
-        CardRequest request = buildRequest("379569568708022", CardType.DEBIT, new BigDecimal("5000.00"));
+        CardRequest request = buildRequest("379569568708022", CardType.DEBIT, Money.of("5000.00"));
 
         mockMvc.perform(post("/api/cards")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -150,6 +487,20 @@ class CardControllerTest {
             .andExpect(jsonPath("$.id").value(999));
     }
 
+    @Test
+    void hotCardsListsMostRequestedIds() throws Exception {
+        Card hot = saveCard("4111111111111111", CardType.DEBIT);
+        for (int i = 0; i < 50; i++) {
+            mockMvc.perform(get("/api/cards/{id}", hot.getId()))
+                .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/admin/hot-cards").param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(hot.getId()))
+            .andExpect(jsonPath("$[0].hits").value(greaterThanOrEqualTo(50)));
+    }
+
     @Test
     void getNotificationsReturnsPayload() throws Exception {
         Card saved = saveCard("4485275742308327", CardType.DEBIT);
@@ -206,7 +557,60 @@ class CardControllerTest {
         mockServer.verify();
     }
 
-    private CardRequest buildRequest(String cardNumber, CardType cardType, BigDecimal creditLimit) {
+    @Test
+    void bulkStatusUpdatesListedIds() throws Exception {
+        Card first = saveCard("4293127308501088", CardType.DEBIT);
+        Card second = saveCard("5400071730269186", CardType.DEBIT);
+        Card untouched = saveCard("4485275742308327", CardType.DEBIT);
+
+        mockMvc.perform(post("/api/cards/status:bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[" + first.getId() + "," + second.getId() + "],\"status\":\"BLOCKED\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("BLOCKED"))
+            .andExpect(jsonPath("$.updated").value(2));
+
+        mockMvc.perform(get("/api/cards/{id}", first.getId()))
+            .andExpect(jsonPath("$.status").value("BLOCKED"));
+        mockMvc.perform(get("/api/cards/{id}", untouched.getId()))
+            .andExpect(jsonPath("$.status").value("ACTIVE"));
+    }
+
+    @Test
+    void bulkStatusUpdatesCardsMatchingPrefix() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            saveCard("40000000000000" + String.format("%02d", i), CardType.DEBIT);
+        }
+        Card other = saveCard("5400071730269186", CardType.DEBIT);
+
+        mockMvc.perform(post("/api/cards/status:bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"cardNumberPrefix\":\"400000\",\"currentStatus\":\"ACTIVE\",\"status\":\"BLOCKED\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.updated").value(3));
+
+        mockMvc.perform(get("/api/cards/{id}", other.getId()))
+            .andExpect(jsonPath("$.status").value("ACTIVE"));
+    }
+
+    @Test
+    void bulkStatusRequiresIdsOrFilter() throws Exception {
+        mockMvc.perform(post("/api/cards/status:bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"BLOCKED\"}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void bulkStatusRejectsNullIds() throws Exception {
+        mockMvc.perform(post("/api/cards/status:bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\":[1,null],\"status\":\"BLOCKED\"}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("ids must not contain blank values"));
+    }
+
+    private CardRequest buildRequest(String cardNumber, CardType cardType, Money creditLimit) {
         CardRequest request = new CardRequest();
         request.setCardNumber(cardNumber);
         request.setCardholderName("Danial Ariff");
@@ -214,21 +618,23 @@ class CardControllerTest {
         request.setStatus(CardStatus.ACTIVE);
         request.setCardType(cardType);
         request.setCreditLimit(creditLimit);
-        request.setBalance(new BigDecimal("15420.75"));
+        request.setBalance(Money.of("15420.75"));
         return request;
     }
 
     private Card saveCard(String cardNumber, CardType cardType) {
         Card card = new Card();
-        card.setCardNumber(cardNumber);
+        card.setMaskedNumber("*".repeat(cardNumber.length() - 4) + cardNumber.substring(cardNumber.length() - 4));
         card.setCardholderName("Danial Ariff");
         card.setExpiryDate(LocalDate.of(2031, 6, 30));
         card.setStatus(CardStatus.ACTIVE);
         card.setCardType(cardType);
         if (cardType == CardType.CREDIT) {
-            card.setCreditLimit(new BigDecimal("100000.00"));
+            card.setCreditLimit(Money.of("100000.00"));
         }
-        card.setBalance(new BigDecimal("15420.75"));
-        return cardRepository.save(card);
+        card.setBalance(Money.of("15420.75"));
+        Card saved = cardRepository.save(card);
+        cardPanRepository.save(new CardPan(saved.getId(), cardNumber));
+        return saved;
     }
 }
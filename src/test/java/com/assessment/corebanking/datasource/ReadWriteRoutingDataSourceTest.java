@@ -0,0 +1,116 @@
+package com.assessment.corebanking.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private ReplicaDataSource replicaOne;
+    private ReplicaDataSource replicaTwo;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setup() {
+        DataSource primary = marked("primary");
+        replicaOne = new ReplicaDataSource("replica-1", marked("replica-1"));
+        replicaTwo = new ReplicaDataSource("replica-2", marked("replica-2"));
+        replicaOne.setLagSeconds(0);
+        replicaTwo.setLagSeconds(0);
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary,
+            List.of(replicaOne, replicaTwo), Duration.ofSeconds(10), new SimpleMeterRegistry());
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void cleanup() {
+        ReadWriteRoutingContext.clear();
+    }
+
+    @Test
+    void writeTransactionsUsePrimary() {
+        assertThat(targetOf(readWrite)).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransactionsRoundRobinAcrossReplicas() {
+        String first = targetOf(readOnly);
+        String second = targetOf(readOnly);
+
+        assertThat(List.of(first, second)).containsExactlyInAnyOrder("replica-1", "replica-2");
+    }
+
+    @Test
+    void unhealthyOrLaggingReplicasAreSkipped() {
+        replicaOne.setHealthy(false);
+        replicaTwo.setLagSeconds(30);
+
+        assertThat(targetOf(readOnly)).isEqualTo("primary");
+
+        replicaTwo.setLagSeconds(1);
+
+        assertThat(targetOf(readOnly)).isEqualTo("replica-2");
+    }
+
+    @Test
+    void replicasWithoutALagSampleAreSkipped() {
+        replicaOne.setLagSeconds(Double.NaN);
+        replicaTwo.setLagSeconds(Double.NaN);
+
+        assertThat(targetOf(readOnly)).isEqualTo("primary");
+
+        replicaOne.setLagSeconds(0.5);
+
+        assertThat(targetOf(readOnly)).isEqualTo("replica-1");
+    }
+
+    @Test
+    void stickinessKeepsReadsOnPrimary() {
+        ReadWriteRoutingContext.forcePrimary();
+
+        assertThat(targetOf(readOnly)).isEqualTo("primary");
+    }
+
+    @Test
+    void onPrimaryRoutesReadOnlyTransactionsStartedInsideIt() {
+        assertThat(ReadWriteRoutingContext.onPrimary(() -> targetOf(readOnly))).isEqualTo("primary");
+        assertThat(ReadWriteRoutingContext.isPrimaryForced()).isFalse();
+
+        assertThatThrownBy(() -> readOnly.execute(status -> ReadWriteRoutingContext.onPrimary(() -> "late")))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private String targetOf(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(
+            status -> jdbcTemplate.queryForObject("select name from marker", String.class));
+    }
+
+    private static DataSource marked(String name) {
+        DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:rw-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table if not exists marker (name varchar(32))");
+        jdbc.update("delete from marker");
+        jdbc.update("insert into marker (name) values (?)", name);
+        return dataSource;
+    }
+}
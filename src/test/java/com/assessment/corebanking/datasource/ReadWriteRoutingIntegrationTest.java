@@ -0,0 +1,116 @@
+package com.assessment.corebanking.datasource;
+
+import com.assessment.corebanking.entity.Card;
+import com.assessment.corebanking.enums.CardStatus;
+import com.assessment.corebanking.enums.CardType;
+import com.assessment.corebanking.money.Money;
+import com.assessment.corebanking.repository.CardRepository;
+import com.assessment.corebanking.service.CardChangeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routing;MODE=MSSQLServer;DB_CLOSE_DELAY=-1",
+    "corebanking.datasource.routing.enabled=true",
+    "corebanking.datasource.routing.replicas[0].name=replica-a",
+    "corebanking.datasource.routing.replicas[0].url=jdbc:h2:mem:routing;MODE=MSSQLServer;DB_CLOSE_DELAY=-1",
+    "corebanking.datasource.routing.replicas[0].username=sa",
+    "corebanking.datasource.routing.replicas[0].password="
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadWriteRoutingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CardChangeService cardChangeService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaHealthMonitor replicaHealthMonitor;
+
+    // Replicas are skipped until a heartbeat has been read from them.
+    @BeforeEach
+    void heartbeat() {
+        replicaHealthMonitor.check();
+    }
+
+    @AfterEach
+    void cleanup() {
+        cardRepository.deleteAll();
+    }
+
+    @Test
+    void readsGoToReplicaUnlessClientRecentlyWrote() throws Exception {
+        Card card = saveCard();
+        double replicaBefore = routed("replica-a");
+        double primaryBefore = routed("primary");
+
+        mockMvc.perform(get("/api/cards/{id}", card.getId()))
+            .andExpect(status().isOk());
+
+        assertThat(routed("replica-a")).isEqualTo(replicaBefore + 1);
+
+        mockMvc.perform(get("/api/cards/{id}", card.getId())
+                .cookie(new Cookie(ReadWriteStickinessFilter.COOKIE_NAME,
+                    String.valueOf(System.currentTimeMillis() + 60_000))))
+            .andExpect(status().isOk());
+
+        assertThat(routed("replica-a")).isEqualTo(replicaBefore + 1);
+        assertThat(routed("primary")).isGreaterThan(primaryBefore);
+    }
+
+    @Test
+    void changesFeedIsServedByThePrimaryEvenInsideReadOnlyTransactions() throws Exception {
+        saveCard();
+        double replicaBefore = routed("replica-a");
+
+        mockMvc.perform(get("/api/cards/changes"))
+            .andExpect(status().isOk());
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.execute(status -> cardChangeService.getChanges(null, 100));
+
+        assertThat(routed("replica-a")).isEqualTo(replicaBefore);
+    }
+
+    private double routed(String target) {
+        return meterRegistry.get("corebanking.datasource.routed").tag("target", target).counter().count();
+    }
+
+    private Card saveCard() {
+        Card card = new Card();
+        card.setMaskedNumber("************1088");
+        card.setCardholderName("Danial Ariff");
+        card.setExpiryDate(LocalDate.of(2031, 6, 30));
+        card.setStatus(CardStatus.ACTIVE);
+        card.setCardType(CardType.DEBIT);
+        card.setBalance(Money.of("15420.75"));
+        return cardRepository.save(card);
+    }
+}
@@ -0,0 +1,17 @@
+package com.assessment.corebanking.datasource;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class StatementCountMatchers {
+
+    private StatementCountMatchers() {
+    }
+
+    public static ResultMatcher sqlStatements(long expected) {
+        return result -> assertThat(result.getResponse().getHeader(StatementMetricsFilter.STATEMENTS_HEADER))
+            .as("SQL statements issued by %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+            .isEqualTo(String.valueOf(expected));
+    }
+}
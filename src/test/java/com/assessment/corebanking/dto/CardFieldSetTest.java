@@ -0,0 +1,29 @@
+package com.assessment.corebanking.dto;
+
+import com.assessment.corebanking.enums.CardField;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CardFieldSetTest {
+
+    @Test
+    void parseKeepsDeclarationOrderAndCachesResult() {
+        CardFieldSet fieldSet = CardFieldSet.parse("balance, id,status,id");
+
+        assertThat(fieldSet.getFields()).containsExactly(CardField.ID, CardField.STATUS, CardField.BALANCE);
+        assertThat(CardFieldSet.parse("balance, id,status,id")).isSameAs(fieldSet);
+    }
+
+    @Test
+    void parseRejectsUnknownAndEmptyFields() {
+        assertThatThrownBy(() -> CardFieldSet.parse("id,cvv"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Unknown field: cvv");
+        assertThatThrownBy(() -> CardFieldSet.parse(" "))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CardFieldSet.parse("id,,status"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,9 +1,10 @@
 package com.assessment.corebanking.dto;
 
+import com.assessment.corebanking.bin.BinTable;
 import com.assessment.corebanking.entity.Card;
 import com.assessment.corebanking.enums.CardStatus;
 import com.assessment.corebanking.enums.CardType;
-import java.math.BigDecimal;
+import com.assessment.corebanking.money.Money;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import org.junit.jupiter.api.Test;
@@ -14,21 +15,22 @@ class CardMapperTest {
 
     @Test
     void toResponseMasksCardNumber() {
-        Card card = new Card();
+        CardRequest request = new CardRequest();
+        request.setCardNumber("5400071730269186"); // Mastercard
+        request.setCardholderName("Danial Ariff");
+        request.setExpiryDate(LocalDate.of(2031, 6, 30));
+        request.setStatus(CardStatus.ACTIVE);
+        request.setCardType(CardType.CREDIT);
+        request.setCreditLimit(Money.of("100000.00"));
+        request.setBalance(Money.of("15420.75"));
+
+        Card card = CardMapper.toEntity(request);
         card.setId(1L);
-        card.setCardNumber("5400071730269186"); // Mastercard
-        card.setCardholderName("Danial Ariff");
-        card.setExpiryDate(LocalDate.of(2031, 6, 30));
-        card.setStatus(CardStatus.ACTIVE);
-        card.setCardType(CardType.CREDIT);
-        card.setCreditLimit(new BigDecimal("100000.00"));
-        card.setBalance(new BigDecimal("15420.75"));
         card.setCreatedAt(LocalDateTime.now());
         card.setUpdatedAt(LocalDateTime.now());
+        CardResponse response = CardMapper.toResponse(card, BinTable.empty());
 
-        CardResponse response = CardMapper.toResponse(card);
-
-        assertThat(response.getCardNumber()).endsWith("9186");
-        assertThat(response.getCardNumber()).doesNotContain("540007173026");
+        assertThat(card.getMaskedNumber()).isEqualTo("************9186");
+        assertThat(response.getCardNumber()).isSameAs(card.getMaskedNumber());
     }
 }
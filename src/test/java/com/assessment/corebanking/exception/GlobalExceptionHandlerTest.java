@@ -0,0 +1,84 @@
+package com.assessment.corebanking.exception;
+
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Map;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void uniqueViolationsAreConflicts() {
+        assertThat(status(violation(new SQLException("Unique index or primary key violation", "23505", 23505))))
+            .isEqualTo(HttpStatus.CONFLICT);
+        assertThat(status(violation(new SQLException("Cannot insert duplicate key row", "23000", 2601))))
+            .isEqualTo(HttpStatus.CONFLICT);
+        assertThat(status(violation(new SQLException("Violation of UNIQUE KEY constraint", "23000", 2627))))
+            .isEqualTo(HttpStatus.CONFLICT);
+        assertThat(status(new DuplicateKeyException("duplicate"))).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    void r2dbcUniqueViolationsAreConflicts() {
+        assertThat(status(new DataIntegrityViolationException("executeMany",
+            new R2dbcDataIntegrityViolationException("Unique index or primary key violation", "23505", 23505))))
+            .isEqualTo(HttpStatus.CONFLICT);
+        assertThat(status(new DataIntegrityViolationException("executeMany",
+            new R2dbcDataIntegrityViolationException("Violation of UNIQUE KEY constraint", "23000", 2627))))
+            .isEqualTo(HttpStatus.CONFLICT);
+        assertThat(status(new DataIntegrityViolationException("executeMany",
+            new R2dbcDataIntegrityViolationException("NULL not allowed for column", "23502", 23502))))
+            .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    void otherIntegrityViolationsAreNotConflicts() {
+        assertThat(status(violation(new SQLException("NULL not allowed for column", "23502", 23502))))
+            .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(status(violation(new SQLException("Cannot insert the value NULL", "23000", 515))))
+            .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(status(new DataIntegrityViolationException("value too long")))
+            .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    void writesOfUnknownOutcomeAskForAKeyedRetry() {
+        ResponseEntity<Map<String, Object>> response = handler.handleWriteOutcomeUnknown(
+            new WriteOutcomeUnknownException("Timed out waiting for group commit on shard 0", null));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat((String) response.getBody().get("error")).contains("Idempotency-Key");
+    }
+
+    @Test
+    void cardNotFoundBodyEchoesTheId() {
+        ResponseEntity<byte[]> response = handler.handleCardNotFound(new CardNotFoundException(1099511627777L));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(new String(response.getBody(), StandardCharsets.US_ASCII))
+            .isEqualTo("{\"error\":\"Card not found\",\"id\":1099511627777}");
+    }
+
+    private HttpStatus status(DataIntegrityViolationException ex) {
+        return HttpStatus.valueOf(handler.handleDataIntegrityViolation(ex).getStatusCode().value());
+    }
+
+    private static DataIntegrityViolationException violation(SQLException cause) {
+        return new DataIntegrityViolationException("could not execute statement",
+            new ConstraintViolationException("could not execute statement", cause, "insert into cards", null));
+    }
+}
@@ -0,0 +1,106 @@
+package com.assessment.corebanking.jfr;
+
+import com.assessment.corebanking.entity.Card;
+import com.assessment.corebanking.enums.CardStatus;
+import com.assessment.corebanking.enums.CardType;
+import com.assessment.corebanking.exception.CardNotFoundException;
+import com.assessment.corebanking.money.Money;
+import com.assessment.corebanking.repository.CardRepository;
+import com.assessment.corebanking.service.CardService;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JfrEventsTest {
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    void cleanup() {
+        cardRepository.deleteAll();
+    }
+
+    @Test
+    void recordsCardOperationsWithIdAndOutcomeAndSummarisesThem() throws Exception {
+        Card card = new Card();
+        card.setMaskedNumber("************1088");
+        card.setCardholderName("Danial Ariff");
+        card.setExpiryDate(LocalDate.of(2031, 6, 30));
+        card.setStatus(CardStatus.ACTIVE);
+        card.setCardType(CardType.DEBIT);
+        card.setBalance(Money.of("120.50"));
+        Card saved = cardRepository.save(card);
+        long missingId = saved.getId() + 1_000;
+
+        Path file = tempDir.resolve("corebanking.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CardOperationEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            cardService.getCardById(saved.getId());
+            assertThatThrownBy(() -> cardService.getCardById(missingId))
+                .isInstanceOf(CardNotFoundException.class);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals(CardOperationEvent.NAME))
+            .toList();
+        assertThat(events).extracting(event -> event.getString("operation"))
+            .containsOnly("getCardById");
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getLong("cardId")).isEqualTo(saved.getId());
+            assertThat(event.getString("outcome")).isEqualTo("OK");
+        });
+        assertThat(events).anySatisfy(event -> {
+            assertThat(event.getLong("cardId")).isEqualTo(missingId);
+            assertThat(event.getString("outcome")).isEqualTo("CardNotFoundException");
+        });
+
+        JfrSummary.Operation summary = JfrSummary.summarize(file).getOperations().get("CardOperation getCardById");
+        assertThat(summary.count()).isEqualTo(events.size());
+        assertThat(summary.getOutcomes()).containsEntry("CardNotFoundException", 1);
+        assertThat(summary.percentileMillis(1.0)).isGreaterThanOrEqualTo(summary.percentileMillis(0.5));
+    }
+
+    @Test
+    void bundledProfileEnablesEveryEvent() throws Exception {
+        Configuration profile;
+        try (Reader reader = new InputStreamReader(
+                getClass().getResourceAsStream("/jfr/corebanking.jfc"), StandardCharsets.UTF_8)) {
+            profile = Configuration.create(reader);
+        }
+
+        assertThat(profile.getSettings())
+            .containsEntry(CardOperationEvent.NAME + "#enabled", "true")
+            .containsEntry(UpstreamCallEvent.NAME + "#enabled", "true")
+            .containsEntry(PayloadSerializationEvent.NAME + "#enabled", "true")
+            .containsKey(CardOperationEvent.NAME + "#threshold");
+    }
+}
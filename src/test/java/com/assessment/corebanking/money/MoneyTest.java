@@ -0,0 +1,51 @@
+package com.assessment.corebanking.money;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void parsesAndFormatsAtCurrencyScale() {
+        Money amount = Money.of("15420.7");
+
+        assertThat(amount.getMinorUnits()).isEqualTo(1_542_070L);
+        assertThat(amount).isEqualTo(Money.ofMinor(1_542_070L));
+        assertThat(amount.toBigDecimal()).isEqualTo(new BigDecimal("15420.70"));
+        assertThat(Money.of(new BigDecimal("3"), 0).toString()).isEqualTo("3");
+        assertThatThrownBy(() -> Money.of("1.005")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Money.of("1e30")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void arithmeticAndComparisonUseMinorUnits() {
+        Money limit = Money.of("100000.00");
+        Money balance = Money.of("15420.75");
+
+        assertThat(limit.minus(balance)).isEqualTo(Money.of("84579.25"));
+        assertThat(limit.plus(balance.negate())).isEqualTo(Money.of("84579.25"));
+        assertThat(balance.compareTo(limit)).isNegative();
+        assertThat(balance.minus(limit).signum()).isEqualTo(-1);
+        assertThatThrownBy(() -> limit.plus(Money.ofMinor(1, 3))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1)))
+            .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void keepsTheDecimalWireFormat() throws Exception {
+        assertThat(mapper.writeValueAsString(Money.of("100000"))).isEqualTo("100000.00");
+        assertThat(mapper.writeValueAsString(Money.of("-0.5"))).isEqualTo("-0.50");
+        assertThat(mapper.readValue("15420.75", Money.class)).isEqualTo(Money.of("15420.75"));
+        assertThat(mapper.readValue("42", Money.class)).isEqualTo(Money.of("42.00"));
+        assertThat(mapper.readValue("\"7.1\"", Money.class)).isEqualTo(Money.of("7.10"));
+        assertThatThrownBy(() -> mapper.readValue("1.005", Money.class)).isInstanceOf(InvalidFormatException.class);
+        assertThatThrownBy(() -> mapper.readValue("\"abc\"", Money.class)).isInstanceOf(InvalidFormatException.class);
+    }
+}
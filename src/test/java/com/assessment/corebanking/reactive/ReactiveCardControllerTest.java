@@ -0,0 +1,271 @@
+package com.assessment.corebanking.reactive;
+
+import com.assessment.corebanking.dto.CardRequest;
+import com.assessment.corebanking.dto.CardResponse;
+import com.assessment.corebanking.entity.Card;
+import com.assessment.corebanking.entity.CardPan;
+import com.assessment.corebanking.enums.CardStatus;
+import com.assessment.corebanking.enums.CardType;
+import com.assessment.corebanking.money.Money;
+import com.assessment.corebanking.repository.CardPanRepository;
+import com.assessment.corebanking.repository.CardRepository;
+import com.assessment.corebanking.repository.CardTombstoneRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:reactivedb",
+    "spring.r2dbc.url=r2dbc:h2:mem:///reactivedb",
+    "spring.r2dbc.password="
+})
+@ActiveProfiles({"test", "reactive"})
+class ReactiveCardControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private CardPanRepository cardPanRepository;
+
+    @Autowired
+    private CardTombstoneRepository tombstoneRepository;
+
+    @AfterEach
+    void cleanup() {
+        cardRepository.deleteAll();
+        cardPanRepository.deleteAll();
+        tombstoneRepository.deleteAll();
+    }
+
+    @Test
+    void cardLifecycleRunsOnReactiveStack() {
+        CardResponse created = webTestClient.post().uri("/api/cards")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(buildRequest("4293127308501088", CardType.CREDIT, Money.of("100000.00")))
+            .exchange()
+            .expectStatus().isCreated()
+            .expectBody(CardResponse.class)
+            .returnResult()
+            .getResponseBody();
+
+        assertThat(created.getCardNumber()).isEqualTo("************1088");
+        assertThat(created.getCreatedAt()).isNotNull();
+        Long id = created.getId();
+        assertThat(cardPanRepository.findById(id)).get()
+            .extracting(CardPan::getPan).isEqualTo("4293127308501088");
+
+        webTestClient.patch().uri("/api/cards/{id}", id)
+            .contentType(MediaType.valueOf("application/merge-patch+json"))
+            .bodyValue(Map.of("status", "BLOCKED", "cardNumber", "5400071730269186"))
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.status").isEqualTo("BLOCKED")
+            .jsonPath("$.cardNumber").isEqualTo("************9186")
+            .jsonPath("$.cardType").isEqualTo("CREDIT");
+
+        webTestClient.get().uri("/api/cards?page=0")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.totalElements").isEqualTo(1)
+            .jsonPath("$.content[0].id").isEqualTo(id);
+
+        webTestClient.delete().uri("/api/cards/{id}", id)
+            .exchange()
+            .expectStatus().isNoContent();
+
+        webTestClient.get().uri("/api/cards/{id}", id)
+            .exchange()
+            .expectStatus().isNotFound()
+            .expectBody()
+            .jsonPath("$.error").isEqualTo("Card not found");
+
+        assertThat(cardPanRepository.existsById(id)).isFalse();
+        assertThat(tombstoneRepository.existsById(id)).isTrue();
+    }
+
+    @Test
+    void createCardWithIdempotencyKeyReplaysStoredResponse() {
+        CardRequest request = buildRequest("4293127308501088", CardType.CREDIT, Money.of("100000.00"));
+
+        CardResponse first = webTestClient.post().uri("/api/cards")
+            .header("Idempotency-Key", "reactive-replay-1")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus().isCreated()
+            .expectBody(CardResponse.class)
+            .returnResult()
+            .getResponseBody();
+
+        webTestClient.post().uri("/api/cards")
+            .header("Idempotency-Key", "reactive-replay-1")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus().isCreated()
+            .expectHeader().valueEquals("Idempotent-Replayed", "true")
+            .expectBody()
+            .jsonPath("$.id").isEqualTo(first.getId());
+
+        request.setCardholderName("Someone Else");
+        webTestClient.post().uri("/api/cards")
+            .header("Idempotency-Key", "reactive-replay-1")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus().isEqualTo(HttpStatus.CONFLICT);
+
+        assertThat(cardRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void createCardWithExistingCardNumberReturnsConflict() {
+        create("4532015112830366");
+
+        webTestClient.post().uri("/api/cards")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(buildRequest("4532015112830366", CardType.DEBIT, null))
+            .exchange()
+            .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+            .expectBody()
+            .jsonPath("$.error").isEqualTo("Card number already exists");
+
+        assertThat(cardRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void createCardWithCardNumberUnknownToFilterStillReturnsConflict() {
+        Card card = new Card();
+        card.setMaskedNumber("************6531");
+        card.setCardholderName("Danial Ariff");
+        card.setExpiryDate(LocalDate.of(2031, 6, 30));
+        card.setStatus(CardStatus.ACTIVE);
+        card.setCardType(CardType.DEBIT);
+        card.setBalance(Money.of("15420.75"));
+        cardPanRepository.save(new CardPan(cardRepository.save(card).getId(), "4716108999716531"));
+
+        webTestClient.post().uri("/api/cards")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(buildRequest("4716108999716531", CardType.DEBIT, null))
+            .exchange()
+            .expectStatus().isEqualTo(HttpStatus.CONFLICT);
+
+        assertThat(cardRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void fieldsAndIdsQueriesMatchServletStack() {
+        create("4293127308501088");
+        create("5400071730269186");
+        Long id = cardRepository.findAll().stream().map(Card::getId).min(Long::compare).orElseThrow();
+
+        webTestClient.get().uri("/api/cards/{id}?fields=id,status", id)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.id").isEqualTo(id)
+            .jsonPath("$.status").isEqualTo("ACTIVE")
+            .jsonPath("$.cardholderName").doesNotExist();
+
+        webTestClient.get().uri("/api/cards?fields=id,cardNumber&sort=id")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.totalElements").isEqualTo(2)
+            .jsonPath("$.content[0].cardNumber").isEqualTo("************1088")
+            .jsonPath("$.content[0].status").doesNotExist();
+
+        webTestClient.get().uri("/api/cards?ids={id},{missing}", id, id + 100)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$[0].found").isEqualTo(true)
+            .jsonPath("$[0].card.id").isEqualTo(id)
+            .jsonPath("$[1].id").isEqualTo(id + 100)
+            .jsonPath("$[1].found").isEqualTo(false);
+
+        webTestClient.post().uri("/api/cards/ids:batchGet")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(Map.of("ids", List.of(id), "fields", "status"))
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$[0].card.status").isEqualTo("ACTIVE")
+            .jsonPath("$[0].card.id").doesNotExist();
+
+        webTestClient.get().uri("/api/cards?fields=id,unknown")
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void createCardRejectsInvalidRequest() {
+        CardRequest request = buildRequest("4293127308501088", CardType.CREDIT, Money.of("100000.00"));
+        request.setCardholderName("");
+
+        webTestClient.post().uri("/api/cards")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.errors[0].field").isEqualTo("cardholderName");
+
+        assertThat(cardRepository.count()).isZero();
+    }
+
+    @Test
+    void bulkStatusUpdateMatchesCardNumberPrefix() {
+        create("4293127308501088");
+        create("4293127308501096");
+        create("5400071730269186");
+
+        webTestClient.post().uri("/api/cards/status:bulk")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(Map.of("cardNumberPrefix", "429312", "status", "BLOCKED"))
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.updated").isEqualTo(2);
+
+        assertThat(cardRepository.findAll())
+            .extracting(Card::getStatus)
+            .containsExactlyInAnyOrder(CardStatus.BLOCKED, CardStatus.BLOCKED, CardStatus.ACTIVE);
+    }
+
+    private void create(String cardNumber) {
+        webTestClient.post().uri("/api/cards")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(buildRequest(cardNumber, CardType.DEBIT, null))
+            .exchange()
+            .expectStatus().isCreated();
+    }
+
+    private CardRequest buildRequest(String cardNumber, CardType cardType, Money creditLimit) {
+        CardRequest request = new CardRequest();
+        request.setCardNumber(cardNumber);
+        request.setCardholderName("Danial Ariff");
+        request.setExpiryDate(LocalDate.of(2031, 6, 30));
+        request.setStatus(CardStatus.ACTIVE);
+        request.setCardType(cardType);
+        request.setCreditLimit(creditLimit);
+        request.setBalance(Money.of("15420.75"));
+        return request;
+    }
+}
@@ -0,0 +1,58 @@
+package com.assessment.corebanking.reactive;
+
+import com.assessment.corebanking.dto.ExternalPost;
+import com.assessment.corebanking.exception.ExternalApiException;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReactiveExternalApiServiceTest {
+
+    @Test
+    void getNotificationsForCardReturnsPosts() {
+        AtomicReference<URI> requested = new AtomicReference<>();
+        String body = "[{\"userId\":3,\"id\":21,\"title\":\"Hello\",\"body\":\"World\"}]";
+        WebClient webClient = WebClient.builder()
+            .baseUrl("https://jsonplaceholder.typicode.com")
+            .exchangeFunction(request -> {
+                requested.set(request.url());
+                return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(body)
+                    .build());
+            })
+            .build();
+        ReactiveExternalApiService service = new ReactiveExternalApiService(webClient);
+
+        List<ExternalPost> posts = service.getNotificationsForCard(42L).block();
+
+        assertThat(requested.get()).hasToString("https://jsonplaceholder.typicode.com/posts?userId=3");
+        assertThat(posts).hasSize(1);
+        assertThat(posts.get(0).getUserId()).isEqualTo(3);
+        assertThat(posts.get(0).getId()).isEqualTo(21);
+    }
+
+    @Test
+    void getNotificationsForCardFailsOnTimeout() {
+        WebClient webClient = WebClient.builder()
+            .exchangeFunction(request -> Mono.error(new WebClientRequestException(
+                new TimeoutException("timeout"), request.method(), request.url(), request.headers())))
+            .build();
+        ReactiveExternalApiService service = new ReactiveExternalApiService(webClient);
+
+        assertThatThrownBy(() -> service.getNotificationsForCard(7L).block())
+            .isInstanceOf(ExternalApiException.class);
+    }
+}
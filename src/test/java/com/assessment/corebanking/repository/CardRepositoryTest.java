@@ -1,10 +1,10 @@
 package com.assessment.corebanking.repository;
 
-import com.assessment.corebanking.config.AuditingConfig;
+import com.assessment.corebanking.config.JpaConfig;
 import com.assessment.corebanking.entity.Card;
 import com.assessment.corebanking.enums.CardStatus;
 import com.assessment.corebanking.enums.CardType;
-import java.math.BigDecimal;
+import com.assessment.corebanking.money.Money;
 import java.time.LocalDate;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,7 +15,7 @@ import org.springframework.test.context.ActiveProfiles;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
-@Import(AuditingConfig.class)
+@Import(JpaConfig.class)
 @ActiveProfiles("test")
 class CardRepositoryTest {
 
@@ -25,12 +25,12 @@ class CardRepositoryTest {
     @Test
     void savePopulatesIdAndAuditFields() {
         Card card = new Card();
-        card.setCardNumber("4293127308501088"); // Visa
+        card.setMaskedNumber("************1088"); // Visa
         card.setCardholderName("Danial Ariff");
         card.setExpiryDate(LocalDate.now().plusYears(2));
         card.setStatus(CardStatus.ACTIVE);
         card.setCardType(CardType.DEBIT);
-        card.setBalance(new BigDecimal("2847.50"));
+        card.setBalance(Money.of("2847.50"));
 
         Card saved = cardRepository.save(card);
 
@@ -41,7 +41,7 @@ class CardRepositoryTest {
         assertThat(cardRepository.findById(saved.getId()))
             .isPresent()
             .get()
-            .extracting(Card::getCardNumber)
-            .isEqualTo("4293127308501088");
+            .extracting(Card::getMaskedNumber)
+            .isEqualTo("************1088");
     }
 }
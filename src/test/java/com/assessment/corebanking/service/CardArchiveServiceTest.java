@@ -0,0 +1,130 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.dto.CardFieldSet;
+import com.assessment.corebanking.entity.Card;
+import com.assessment.corebanking.enums.CardStatus;
+import com.assessment.corebanking.enums.CardType;
+import com.assessment.corebanking.exception.CardNotFoundException;
+import com.assessment.corebanking.money.Money;
+import com.assessment.corebanking.repository.ArchivedCardRepository;
+import com.assessment.corebanking.repository.CardRepository;
+import com.assessment.corebanking.repository.CardTombstoneRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CardArchiveServiceTest {
+
+    @Autowired
+    private CardArchiveService cardArchiveService;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private ArchivedCardRepository archivedCardRepository;
+
+    @Autowired
+    private CardTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanup() {
+        cardRepository.deleteAll();
+        tombstoneRepository.deleteAll();
+        jdbcTemplate.update("delete from cards_archive");
+    }
+
+    @Test
+    void archivesExpiredAndLongInactiveCardsAndKeepsThemReadable() {
+        Card expired = saveCard(CardStatus.EXPIRED, 40);
+        Card inactive = saveCard(CardStatus.INACTIVE, 200);
+        Card recentlyInactive = saveCard(CardStatus.INACTIVE, 10);
+        Card recentlyExpired = saveCard(CardStatus.EXPIRED, 1);
+        Card active = saveCard(CardStatus.ACTIVE, 400);
+
+        assertThat(cardArchiveService.archive()).isEqualTo(2);
+
+        assertThat(cardRepository.findAll()).extracting(Card::getId)
+            .containsExactlyInAnyOrder(recentlyInactive.getId(), recentlyExpired.getId(), active.getId());
+        assertThat(archivedCardRepository.count()).isEqualTo(2);
+        Card archived = cardService.getCardById(expired.getId());
+        assertThat(archived.getStatus()).isEqualTo(CardStatus.EXPIRED);
+        assertThat(archived.getBalance()).isEqualTo(Money.of("120.50"));
+        assertThat(cardService.getCardFields(inactive.getId(), CardFieldSet.parse("id,status")))
+            .containsEntry("status", CardStatus.INACTIVE);
+        assertThat(cardService.getCardsByIds(List.of(expired.getId(), active.getId())))
+            .containsOnlyKeys(expired.getId(), active.getId());
+        cardService.requireCardExists(inactive.getId());
+    }
+
+    @Test
+    void restoredCardIsLiveAgainAndNotRearchivedStraightAway() {
+        Card expired = saveCard(CardStatus.EXPIRED, 40);
+        Card inactive = saveCard(CardStatus.INACTIVE, 200);
+        cardArchiveService.archive();
+
+        cardArchiveService.restore(expired.getId());
+
+        Card restored = cardRepository.findById(expired.getId()).orElseThrow();
+        assertThat(restored.getMaskedNumber()).isEqualTo(expired.getMaskedNumber());
+        assertThat(restored.getUpdatedAt()).isAfter(LocalDateTime.now().minusMinutes(1));
+        assertThat(archivedCardRepository.existsById(expired.getId())).isFalse();
+        assertThat(cardArchiveService.archive()).isZero();
+        assertThatThrownBy(() -> cardArchiveService.restore(expired.getId()))
+            .isInstanceOf(CardNotFoundException.class);
+
+        cardService.deleteCard(inactive.getId());
+        assertThat(archivedCardRepository.count()).isZero();
+    }
+
+    @Test
+    void copiedColumnsCoverEveryMappedColumnOfBothTables() {
+        List<String> copied = Arrays.stream(CardArchiveService.COLUMNS.split(",")).map(String::trim).toList();
+
+        assertThat(columns("CARDS")).containsExactlyInAnyOrderElementsOf(concat(copied, "updated_at"));
+        assertThat(columns("CARDS_ARCHIVE"))
+            .containsExactlyInAnyOrderElementsOf(concat(copied, "updated_at", "archived_at"));
+    }
+
+    private List<String> columns(String table) {
+        return jdbcTemplate.queryForList("select lower(column_name) from information_schema.columns"
+            + " where table_name = ?", String.class, table);
+    }
+
+    private static List<String> concat(List<String> columns, String... more) {
+        return Stream.concat(columns.stream(), Stream.of(more)).toList();
+    }
+
+    private Card saveCard(CardStatus status, int daysSinceUpdate) {
+        Card card = new Card();
+        card.setMaskedNumber("************" + (1000 + cardRepository.count()));
+        card.setCardholderName("Danial Ariff");
+        card.setExpiryDate(LocalDate.of(2031, 6, 30));
+        card.setStatus(status);
+        card.setCardType(CardType.DEBIT);
+        card.setBalance(Money.of("120.50"));
+        Card saved = cardRepository.save(card);
+        jdbcTemplate.update("update cards set updated_at = ? where id = ?",
+            LocalDateTime.now().minusDays(daysSinceUpdate), saved.getId());
+        return saved;
+    }
+}
@@ -0,0 +1,121 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.dto.CardBulkStatusRequest;
+import com.assessment.corebanking.dto.CardChange;
+import com.assessment.corebanking.dto.CardChangesResponse;
+import com.assessment.corebanking.entity.Card;
+import com.assessment.corebanking.enums.CardStatus;
+import com.assessment.corebanking.enums.CardType;
+import com.assessment.corebanking.money.Money;
+import com.assessment.corebanking.repository.CardRepository;
+import com.assessment.corebanking.repository.CardTombstoneRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+
+// The test profile has no settle window or transaction timeout, so every committed change is visible at once and no
+// sleeps are needed.
+@SpringBootTest
+@ActiveProfiles("test")
+class CardBulkStatusSyncTest {
+
+    private static final int CARDS = 1001;
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private CardChangeService cardChangeService;
+
+    @SpyBean
+    private CardRepository cardRepository;
+
+    @Autowired
+    private CardTombstoneRepository tombstoneRepository;
+
+    @AfterEach
+    void cleanup() {
+        cardRepository.deleteAll();
+        tombstoneRepository.deleteAll();
+    }
+
+    @Test
+    void chunkCommittedAfterAConcurrentSyncIsStillSynced() throws Exception {
+        List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < CARDS; i++) {
+            Card card = new Card();
+            card.setMaskedNumber("************" + (1000 + i % 9000));
+            card.setCardholderName("Danial Ariff");
+            card.setExpiryDate(LocalDate.of(2031, 6, 30));
+            card.setStatus(CardStatus.ACTIVE);
+            card.setCardType(CardType.DEBIT);
+            card.setBalance(Money.of("120.50"));
+            cards.add(card);
+        }
+        List<Long> ids = cardRepository.saveAll(cards).stream().map(Card::getId).sorted().toList();
+        String start = drain(null, new HashSet<>());
+
+        // A client syncs after the first chunk has committed and while the second one is held back.
+        CountDownLatch secondChunkHeld = new CountDownLatch(1);
+        CompletableFuture<String> midRun = CompletableFuture.supplyAsync(() -> {
+            await(secondChunkHeld);
+            return drain(start, new HashSet<>());
+        });
+        AtomicInteger chunks = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (chunks.incrementAndGet() == 2) {
+                secondChunkHeld.countDown();
+                midRun.get(10, TimeUnit.SECONDS);
+            }
+            return invocation.callRealMethod();
+        }).when(cardRepository).findIdsForStatusChange(anyLong(), any(), any(), any(), any());
+
+        CardBulkStatusRequest request = new CardBulkStatusRequest();
+        request.setCurrentStatus(CardStatus.ACTIVE);
+        request.setStatus(CardStatus.BLOCKED);
+        assertThat(cardService.updateStatus(request)).isEqualTo(CARDS);
+
+        Set<Long> synced = new HashSet<>();
+        drain(midRun.get(), synced);
+        assertThat(chunks).hasValue(3);
+        assertThat(synced).contains(ids.get(CARDS - 1));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Second chunk was never reached");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private String drain(String token, Set<Long> ids) {
+        CardChangesResponse page;
+        do {
+            page = cardChangeService.getChanges(token, 1000);
+            page.getChanges().stream().map(CardChange::getId).forEach(ids::add);
+            token = page.getNextToken();
+        } while (page.isHasMore());
+        return token;
+    }
+}
@@ -1,10 +1,17 @@
 package com.assessment.corebanking.service;
 
+import com.assessment.corebanking.bin.BinTable;
+import com.assessment.corebanking.bin.BinTableHolder;
+import com.assessment.corebanking.dto.CardBulkStatusRequest;
+import com.assessment.corebanking.dto.CardPatchRequest;
 import com.assessment.corebanking.dto.CardRequest;
+import com.assessment.corebanking.entity.Card;
 import com.assessment.corebanking.enums.CardStatus;
 import com.assessment.corebanking.enums.CardType;
-import java.math.BigDecimal;
+import com.assessment.corebanking.money.Money;
+import java.io.StringReader;
 import java.time.LocalDate;
+import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThatNoException;
@@ -12,6 +19,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class CardDomainValidatorTest {
 
+    private final BinTableHolder binTables = new BinTableHolder();
+
     @Test
     void rejectsCreditLimitForNonCreditCards() {
         CardRequest request = new CardRequest();
@@ -20,10 +29,10 @@ class CardDomainValidatorTest {
         request.setExpiryDate(LocalDate.of(2031, 6, 30));
         request.setStatus(CardStatus.ACTIVE);
         request.setCardType(CardType.DEBIT);
-        request.setCreditLimit(new BigDecimal("100000.00"));
-        request.setBalance(new BigDecimal("4215.30"));
+        request.setCreditLimit(Money.of("100000.00"));
+        request.setBalance(Money.of("4215.30"));
 
-        CardDomainValidator validator = new CardDomainValidator();
+        CardDomainValidator validator = new CardDomainValidator(binTables);
 
         assertThatThrownBy(() -> validator.validate(request))
             .isInstanceOf(IllegalArgumentException.class);
@@ -37,11 +46,63 @@ class CardDomainValidatorTest {
         request.setExpiryDate(LocalDate.of(2031, 10, 31));
         request.setStatus(CardStatus.ACTIVE);
         request.setCardType(CardType.CREDIT);
-        request.setCreditLimit(new BigDecimal("100000.00"));
-        request.setBalance(new BigDecimal("67890.25"));
+        request.setCreditLimit(Money.of("100000.00"));
+        request.setBalance(Money.of("67890.25"));
 
-        CardDomainValidator validator = new CardDomainValidator();
+        CardDomainValidator validator = new CardDomainValidator(binTables);
 
         assertThatNoException().isThrownBy(() -> validator.validate(request));
     }
+
+    @Test
+    void patchRechecksCreditLimitWhenCardTypeChanges() {
+        Card card = new Card();
+        card.setCardType(CardType.CREDIT);
+        card.setCreditLimit(Money.of("100000.00"));
+        CardPatchRequest patch = new CardPatchRequest();
+        patch.setCardType(CardType.DEBIT);
+
+        CardDomainValidator validator = new CardDomainValidator(binTables);
+
+        assertThatThrownBy(() -> validator.validatePatch(patch, card))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        patch.setCreditLimit(null);
+        assertThatNoException().isThrownBy(() -> validator.validatePatch(patch, card));
+    }
+
+    @Test
+    void bulkStatusRejectsNullIds() {
+        CardBulkStatusRequest request = new CardBulkStatusRequest();
+        request.setIds(Arrays.asList(1L, null));
+        request.setStatus(CardStatus.BLOCKED);
+
+        assertThatThrownBy(() -> new CardDomainValidator(binTables).validate(request))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("ids must not contain blank values");
+    }
+
+    @Test
+    void rejectsBadCheckDigitAndCardTypeThatContradictsTheBin() throws Exception {
+        CardRequest request = new CardRequest();
+        request.setCardNumber("4293127308501089");
+        request.setCardType(CardType.CREDIT);
+        CardDomainValidator validator = new CardDomainValidator(binTables);
+
+        assertThatThrownBy(() -> validator.validate(request))
+            .hasMessage("cardNumber is not a valid card number");
+
+        binTables.install(BinTable.parse(new StringReader("429312,429312,VISA,Test Bank,DEBIT")));
+        request.setCardNumber("4293127308501088");
+        assertThatThrownBy(() -> validator.validate(request))
+            .hasMessage("cardType CREDIT does not match the DEBIT product of the card's BIN");
+
+        Card card = new Card();
+        card.setCardType(CardType.DEBIT);
+        card.setBin("42931273");
+        CardPatchRequest patch = new CardPatchRequest();
+        patch.setCardType(CardType.CREDIT);
+        assertThatThrownBy(() -> validator.validatePatch(patch, card))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -0,0 +1,153 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.bin.Luhn;
+import com.assessment.corebanking.dto.CardRequest;
+import com.assessment.corebanking.entity.Card;
+import com.assessment.corebanking.entity.CardPan;
+import com.assessment.corebanking.enums.CardStatus;
+import com.assessment.corebanking.enums.CardType;
+import com.assessment.corebanking.money.Money;
+import com.assessment.corebanking.repository.CardPanRepository;
+import com.assessment.corebanking.repository.CardRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+    "corebanking.group-commit.enabled=true",
+    "corebanking.group-commit.max-delay=PT0.05S"
+})
+@ActiveProfiles("test")
+class CardGroupCommitterTest {
+
+    private static final String TAKEN_NUMBER = "4539578763621486";
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private CardPanRepository cardPanRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void cleanup() {
+        cardRepository.deleteAll();
+        cardPanRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentCreatesCommitTogetherAndFailIndividually() throws Exception {
+        Card existing = new Card();
+        existing.setMaskedNumber("************1486");
+        existing.setCardholderName("Danial Ariff");
+        existing.setExpiryDate(LocalDate.of(2031, 6, 30));
+        existing.setStatus(CardStatus.ACTIVE);
+        existing.setCardType(CardType.DEBIT);
+        existing.setBalance(Money.ofMinor(0));
+        existing = cardRepository.save(existing);
+        cardPanRepository.save(new CardPan(existing.getId(), TAKEN_NUMBER));
+
+        List<String> cardNumbers = new ArrayList<>();
+        for (int i = 0; i < 19; i++) {
+            cardNumbers.add(Luhn.withCheckDigit(String.format("4000%011d", i)));
+        }
+        cardNumbers.add(TAKEN_NUMBER);
+
+        long batchesBefore = batchSizes().count();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Card>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(cardNumbers.size())) {
+            for (String cardNumber : cardNumbers) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cardService.createCard(request(cardNumber));
+                }));
+            }
+            start.countDown();
+
+            for (int i = 0; i < 19; i++) {
+                assertThat(results.get(i).get().getId()).isNotNull();
+            }
+            assertThatThrownBy(() -> results.get(19).get())
+                .hasCauseInstanceOf(DataIntegrityViolationException.class);
+        }
+        assertThat(cardRepository.count()).isEqualTo(20);
+        assertThat(cardPanRepository.count()).isEqualTo(20);
+        assertThat(batchSizes().count() - batchesBefore).isLessThan(cardNumbers.size());
+        assertThat(batchSizes().max()).isGreaterThan(1);
+    }
+
+    @Test
+    void concurrentUpdatesOfOneCardEachReturnTheirOwnChanges() throws Exception {
+        Card created = cardService.createCard(request("4000000000000119"));
+        List<String> names = List.of("Nur Aisyah", "Wei Jie Tan", "Kavitha Raj", "Ahmad Faris");
+
+        long batchesBefore = batchSizes().count();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Card>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(names.size())) {
+            for (String name : names) {
+                CardRequest update = request("4000000000000119");
+                update.setCardholderName(name);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cardService.updateCard(created.getId(), update);
+                }));
+            }
+            start.countDown();
+
+            for (int i = 0; i < names.size(); i++) {
+                assertThat(results.get(i).get().getCardholderName()).isEqualTo(names.get(i));
+            }
+        }
+        assertThat(batchSizes().count() - batchesBefore).isLessThan(names.size());
+        assertThat(cardRepository.findById(created.getId())).get()
+            .extracting(Card::getCardholderName).isIn(names);
+    }
+
+    @Test
+    void updatesGoThroughTheGroupCommitToo() {
+        Card created = cardService.createCard(request("4000000000000101"));
+        CardRequest update = request("4000000000000101");
+        update.setCardholderName("Nur Aisyah");
+
+        assertThat(cardService.updateCard(created.getId(), update).getCardholderName()).isEqualTo("Nur Aisyah");
+        assertThat(cardRepository.findById(created.getId())).get()
+            .extracting(Card::getCardholderName).isEqualTo("Nur Aisyah");
+    }
+
+    private DistributionSummary batchSizes() {
+        return meterRegistry.summary("corebanking.group-commit.batch.size");
+    }
+
+    private static CardRequest request(String cardNumber) {
+        CardRequest request = new CardRequest();
+        request.setCardNumber(cardNumber);
+        request.setCardholderName("Danial Ariff");
+        request.setExpiryDate(LocalDate.of(2031, 6, 30));
+        request.setStatus(CardStatus.ACTIVE);
+        request.setCardType(CardType.DEBIT);
+        request.setBalance(Money.of("15420.75"));
+        return request;
+    }
+}
@@ -0,0 +1,85 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.CoreBankingApplication;
+import com.assessment.corebanking.dto.CardRequest;
+import com.assessment.corebanking.enums.CardStatus;
+import com.assessment.corebanking.enums.CardType;
+import com.assessment.corebanking.exception.CardNotFoundException;
+import com.assessment.corebanking.money.Money;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two instances of the application in one JVM, sharing an in-memory H2 database as a cluster would share its
+ * database.
+ */
+class CardNearCacheClusterTest {
+
+    @Test
+    void writeOnOneInstanceInvalidatesTheOthersNearCache() throws InterruptedException {
+        try (ConfigurableApplicationContext first = start("create");
+             ConfigurableApplicationContext second = start("none")) {
+            CardService writer = first.getBean(CardService.class);
+            CardService reader = second.getBean(CardService.class);
+            MeterRegistry readerMetrics = second.getBean(MeterRegistry.class);
+
+            Long id = writer.createCard(request("Danial Ariff")).getId();
+            assertThat(reader.getCardById(id).getCardholderName()).isEqualTo("Danial Ariff");
+            assertThat(reader.getCardById(id).getCardholderName()).isEqualTo("Danial Ariff");
+            assertThat(readerMetrics.counter("corebanking.near-cache.hits").count()).isEqualTo(1);
+
+            writer.updateCard(id, request("Nur Aisyah"));
+            assertThat(eventually(() -> "Nur Aisyah".equals(reader.getCardById(id).getCardholderName()))).isTrue();
+
+            writer.deleteCard(id);
+            assertThat(eventually(() -> {
+                try {
+                    reader.getCardById(id);
+                    return false;
+                } catch (CardNotFoundException ex) {
+                    return true;
+                }
+            })).isTrue();
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String ddlAuto) {
+        return new SpringApplicationBuilder(CoreBankingApplication.class)
+            .profiles("test")
+            .run("--spring.main.web-application-type=none",
+                "--spring.datasource.url=jdbc:h2:mem:near-cache-cluster;MODE=MSSQLServer;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                "--corebanking.audit.enabled=false",
+                "--corebanking.near-cache.enabled=true",
+                "--corebanking.near-cache.poll-interval=PT0.05S");
+    }
+
+    private static boolean eventually(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(20);
+        }
+        return false;
+    }
+
+    private static CardRequest request(String cardholderName) {
+        CardRequest request = new CardRequest();
+        request.setCardNumber("4485275742308327");
+        request.setCardholderName(cardholderName);
+        request.setExpiryDate(LocalDate.of(2031, 6, 30));
+        request.setStatus(CardStatus.ACTIVE);
+        request.setCardType(CardType.DEBIT);
+        request.setBalance(Money.of("15420.75"));
+        return request;
+    }
+}
@@ -0,0 +1,103 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.config.NearCacheProperties;
+import com.assessment.corebanking.entity.Card;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CardNearCacheTest {
+
+    private final QueueTransport transport = new QueueTransport();
+
+    @Test
+    void readRacingAnInvalidationIsNotCached() {
+        CardNearCache cache = cache(Duration.ofMinutes(1));
+
+        long generation = cache.generation(7L);
+        transport.pending.add(7L);
+        cache.poll();
+        cache.put(card(7L), generation);
+        assertThat(cache.get(7L)).isNull();
+
+        cache.put(card(7L), cache.generation(7L));
+        assertThat(cache.get(7L)).isNotNull();
+        transport.pending.add(7L);
+        cache.poll();
+        assertThat(cache.get(7L)).isNull();
+    }
+
+    @Test
+    void invalidationOfAnotherCardDoesNotBlockTheFill() {
+        CardNearCache cache = cache(Duration.ofMinutes(1));
+
+        long generation = cache.generation(7L);
+        transport.pending.add(8L);
+        cache.poll();
+        cache.put(card(7L), generation);
+
+        assertThat(cache.get(7L)).isNotNull();
+    }
+
+    @Test
+    void entriesExpireAndPublishGoesThroughTheTransport() throws InterruptedException {
+        CardNearCache cache = cache(Duration.ofMillis(50));
+
+        cache.put(card(8L), cache.generation(8L));
+        assertThat(cache.get(8L)).isNotNull();
+        Thread.sleep(60);
+        assertThat(cache.get(8L)).isNull();
+
+        cache.publish(List.of(8L, 9L));
+        assertThat(transport.published).containsExactly(8L, 9L);
+    }
+
+    @Test
+    void entriesCloseToExpiryAreDueForRefresh() {
+        CardNearCache cache = cache(Duration.ofMinutes(1));
+        assertThat(cache.dueForRefresh(9L)).isTrue();
+        cache.put(card(9L), cache.generation(9L));
+        assertThat(cache.dueForRefresh(9L)).isFalse();
+
+        CardNearCache expiring = cache(Duration.ofSeconds(8));
+        expiring.put(card(9L), expiring.generation(9L));
+        assertThat(expiring.dueForRefresh(9L)).isTrue();
+    }
+
+    private CardNearCache cache(Duration ttl) {
+        NearCacheProperties properties = new NearCacheProperties();
+        properties.setEnabled(true);
+        properties.setTtl(ttl);
+        properties.setHotRefreshInterval(Duration.ofSeconds(5));
+        return new CardNearCache(transport, properties, new SimpleMeterRegistry());
+    }
+
+    private static Card card(long id) {
+        Card card = new Card();
+        card.setId(id);
+        return card;
+    }
+
+    private static class QueueTransport implements CardInvalidationTransport {
+
+        private final List<Long> published = new ArrayList<>();
+        private final List<Long> pending = new ArrayList<>();
+
+        @Override
+        public void publish(Collection<Long> cardIds) {
+            published.addAll(cardIds);
+        }
+
+        @Override
+        public Collection<Long> poll() {
+            List<Long> polled = List.copyOf(pending);
+            pending.clear();
+            return polled;
+        }
+    }
+}
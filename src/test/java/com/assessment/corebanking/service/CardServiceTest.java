@@ -2,10 +2,14 @@ package com.assessment.corebanking.service;
 
 import com.assessment.corebanking.dto.CardRequest;
 import com.assessment.corebanking.entity.Card;
+import com.assessment.corebanking.dto.HotCard;
+import com.assessment.corebanking.entity.CardPan;
 import com.assessment.corebanking.enums.CardStatus;
 import com.assessment.corebanking.enums.CardType;
+import com.assessment.corebanking.exception.CardNotFoundException;
+import com.assessment.corebanking.money.Money;
+import com.assessment.corebanking.repository.CardPanRepository;
 import com.assessment.corebanking.repository.CardRepository;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +20,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -27,9 +32,16 @@ class CardServiceTest {
     @Autowired
     private CardRepository cardRepository;
 
+    @Autowired
+    private CardPanRepository cardPanRepository;
+
+    @Autowired
+    private HotCardTracker hotCardTracker;
+
     @AfterEach
     void cleanup() {
         cardRepository.deleteAll();
+        cardPanRepository.deleteAll();
     }
 
     @Test
@@ -40,13 +52,18 @@ class CardServiceTest {
         request.setExpiryDate(LocalDate.of(2031, 6, 30));
         request.setStatus(CardStatus.ACTIVE);
         request.setCardType(CardType.CREDIT);
-        request.setCreditLimit(new BigDecimal("100000.00"));
-        request.setBalance(new BigDecimal("31572.80"));
+        request.setCreditLimit(Money.of("100000.00"));
+        request.setBalance(Money.of("31572.80"));
 
         Card created = cardService.createCard(request);
         Card fetched = cardService.getCardById(created.getId());
 
         assertThat(fetched.getCardholderName()).isEqualTo("Danial Ariff");
+        assertThat(fetched.getMaskedNumber()).isEqualTo("***********5247");
+        assertThat(cardPanRepository.findById(created.getId()))
+            .get()
+            .extracting(CardPan::getPan)
+            .isEqualTo("370144404935247");
 
         request.setCardholderName("Updated Name");
         Card updated = cardService.updateCard(created.getId(), request);
@@ -54,6 +71,8 @@ class CardServiceTest {
         assertThat(updated.getCardholderName()).isEqualTo("Updated Name");
 
         cardService.deleteCard(created.getId());
+
+        assertThat(cardPanRepository.existsById(created.getId())).isFalse();
     }
 
     @Test
@@ -61,4 +80,15 @@ class CardServiceTest {
         Page<Card> page = cardService.getAllCards(PageRequest.of(0, 5));
         assertThat(page.getSize()).isEqualTo(10);
     }
+
+    @Test
+    void readsOfMissingCardsAreNotCountedAsHot() {
+        long missing = 987_654_321L;
+        for (int i = 0; i < 100; i++) {
+            assertThatThrownBy(() -> cardService.getCardById(missing)).isInstanceOf(CardNotFoundException.class);
+        }
+
+        assertThat(hotCardTracker.hottest(hotCardTracker.getTopK())).extracting(HotCard::getId)
+            .doesNotContain(missing);
+    }
 }
@@ -0,0 +1,40 @@
+package com.assessment.corebanking.service;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountingBloomFilterTest {
+
+    @Test
+    void addedKeysAreReportedUntilRemoved() {
+        CountingBloomFilter filter = new CountingBloomFilter(1000, 0.01);
+
+        filter.add(11L, 42L);
+        filter.add(11L, 42L);
+        assertThat(filter.mightContain(11L, 42L)).isTrue();
+
+        filter.remove(11L, 42L);
+        assertThat(filter.mightContain(11L, 42L)).isTrue();
+        filter.remove(11L, 42L);
+        assertThat(filter.mightContain(11L, 42L)).isFalse();
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(random.nextLong(), random.nextLong());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(random.nextLong(), random.nextLong())) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+}
@@ -0,0 +1,107 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.config.ExternalApiProperties;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExternalApiHedgingTest {
+
+    private static final byte[] BODY = "[{\"userId\":1,\"id\":1,\"title\":\"Hello\",\"body\":\"World\"}]"
+        .getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer server;
+    private final AtomicLong slowRequestsLeft = new AtomicLong();
+    private final AtomicInteger served = new AtomicInteger();
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/posts", exchange -> {
+            if (slowRequestsLeft.getAndDecrement() > 0) {
+                sleep(Duration.ofMillis(1500));
+            }
+            served.incrementAndGet();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, BODY.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(BODY);
+            }
+        });
+        server.start();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    @Test
+    void slowFirstAttemptIsHedgedAndHedgeWins() {
+        ExternalApiService service = service(0.5);
+        warmUp(service);
+        double hedged = registry.counter("corebanking.notifications.hedged").count();
+        double wins = registry.counter("corebanking.notifications.hedge.wins").count();
+
+        slowRequestsLeft.set(1);
+        long started = System.nanoTime();
+        assertThat(service.getNotificationsForCard(1L)).hasSize(1);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(1000));
+        assertThat(registry.counter("corebanking.notifications.hedged").count()).isEqualTo(hedged + 1);
+        assertThat(registry.counter("corebanking.notifications.hedge.wins").count()).isEqualTo(wins + 1);
+        service.destroy();
+    }
+
+    @Test
+    void exhaustedBudgetWaitsForFirstAttempt() {
+        ExternalApiService service = service(0);
+        warmUp(service);
+
+        slowRequestsLeft.set(1);
+        long started = System.nanoTime();
+        assertThat(service.getNotificationsForCard(1L)).hasSize(1);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(Duration.ofMillis(1500));
+        assertThat(registry.counter("corebanking.notifications.hedged").count()).isZero();
+        service.destroy();
+    }
+
+    private ExternalApiService service(double budgetRatio) {
+        ExternalApiProperties properties = new ExternalApiProperties();
+        properties.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        properties.getHedging().setBudgetRatio(budgetRatio);
+        return new ExternalApiService(new RestTemplate(), properties, registry);
+    }
+
+    private void warmUp(ExternalApiService service) {
+        for (int i = 0; i < 32; i++) {
+            service.getNotificationsForCard(1L);
+        }
+        assertThat(service.hedgeDelayNanos()).isPositive();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.assessment.corebanking.service;
 
+import com.assessment.corebanking.config.ExternalApiProperties;
 import com.assessment.corebanking.dto.ExternalPost;
 import com.assessment.corebanking.exception.ExternalApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,7 +29,7 @@ class ExternalApiServiceTest {
     void setup() {
         restTemplate = new RestTemplate();
         server = MockRestServiceServer.createServer(restTemplate);
-        externalApiService = new ExternalApiService(restTemplate);
+        externalApiService = new ExternalApiService(restTemplate, new ExternalApiProperties(), new SimpleMeterRegistry());
     }
 
     @Test
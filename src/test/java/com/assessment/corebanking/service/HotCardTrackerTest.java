@@ -0,0 +1,47 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.config.HotCardProperties;
+import com.assessment.corebanking.dto.HotCard;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotCardTrackerTest {
+
+    @Test
+    void heaviestIdsSurviveLongTailTraffic() {
+        HotCardProperties properties = new HotCardProperties();
+        properties.setTopK(4);
+        HotCardTracker tracker = new HotCardTracker(properties);
+
+        for (int round = 0; round < 200; round++) {
+            tracker.record(7L);
+            if (round % 2 == 0) {
+                tracker.record(42L);
+            }
+            for (long tail = 0; tail < 50; tail++) {
+                tracker.record(1_000 + round * 50L + tail);
+            }
+        }
+
+        List<HotCard> hottest = tracker.hottest(2);
+        assertThat(hottest).extracting(HotCard::getId).containsExactly(7L, 42L);
+        assertThat(hottest.get(0).getHits()).isBetween(200L, 210L);
+    }
+
+    @Test
+    void decayHalvesCountsAndDropsColdIds() {
+        HotCardTracker tracker = new HotCardTracker(new HotCardProperties());
+        for (int i = 0; i < 8; i++) {
+            tracker.record(5L);
+        }
+        tracker.record(6L);
+
+        tracker.decay();
+
+        assertThat(tracker.estimate(5L)).isEqualTo(4L);
+        assertThat(tracker.hottest(10)).extracting(HotCard::getId).containsExactly(5L);
+        assertThat(tracker.hottest(10).get(0).getRatePerSecond()).isEqualTo(0.2);
+    }
+}
@@ -0,0 +1,47 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.config.IdempotencyProperties;
+import com.assessment.corebanking.entity.IdempotencyRecord;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryIdempotencyStoreTest {
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondCapacity() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setMaxMemoryEntries(2);
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(properties);
+
+        store.save(record("a", LocalDateTime.now().plusHours(1)));
+        store.save(record("b", LocalDateTime.now().plusHours(1)));
+        store.find("a");
+        store.save(record("c", LocalDateTime.now().plusHours(1)));
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.find("a")).isPresent();
+        assertThat(store.find("b")).isEmpty();
+        assertThat(store.find("c")).isPresent();
+    }
+
+    @Test
+    void ignoresExpiredEntries() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(new IdempotencyProperties());
+
+        store.save(record("expired", LocalDateTime.now().minusSeconds(1)));
+
+        assertThat(store.find("expired")).isEmpty();
+    }
+
+    private IdempotencyRecord record(String key, LocalDateTime expiresAt) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setIdempotencyKey(key);
+        record.setRequestHash("hash");
+        record.setStatusCode(201);
+        record.setCreatedAt(LocalDateTime.now());
+        record.setExpiresAt(expiresAt);
+        return record;
+    }
+}
@@ -0,0 +1,41 @@
+package com.assessment.corebanking.service;
+
+import com.assessment.corebanking.config.MissingCardCacheProperties;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MissingCardCacheTest {
+
+    @Test
+    void missExpiresAndIsInvalidatedByCreate() throws InterruptedException {
+        MissingCardCache cache = cache(Duration.ofMillis(50));
+
+        cache.markMissing(7L, cache.generation());
+        assertThat(cache.isMissing(7L)).isTrue();
+        cache.invalidate(7L);
+        assertThat(cache.isMissing(7L)).isFalse();
+
+        cache.markMissing(8L, cache.generation());
+        Thread.sleep(60);
+        assertThat(cache.isMissing(8L)).isFalse();
+    }
+
+    @Test
+    void missObservedBeforeConcurrentCreateIsNotCached() {
+        MissingCardCache cache = cache(Duration.ofMinutes(1));
+
+        long generation = cache.generation();
+        cache.invalidate(9L);
+        cache.markMissing(9L, generation);
+
+        assertThat(cache.isMissing(9L)).isFalse();
+    }
+
+    private static MissingCardCache cache(Duration ttl) {
+        MissingCardCacheProperties properties = new MissingCardCacheProperties();
+        properties.setTtl(ttl);
+        return new MissingCardCache(properties);
+    }
+}
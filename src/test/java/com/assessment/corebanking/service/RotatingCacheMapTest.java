@@ -0,0 +1,41 @@
+package com.assessment.corebanking.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RotatingCacheMapTest {
+
+    @Test
+    void fullSegmentRotatesAndOldestSegmentIsDropped() {
+        RotatingCacheMap<String> map = new RotatingCacheMap<>(4);
+
+        map.put(1L, "a");
+        map.put(2L, "b");
+        map.put(3L, "c");
+        assertThat(map.get(1L)).isEqualTo("a");
+        assertThat(map.size()).isEqualTo(3);
+
+        map.put(4L, "d");
+        map.put(5L, "e");
+        assertThat(map.get(1L)).isNull();
+        assertThat(map.get(2L)).isNull();
+        assertThat(map.get(3L)).isEqualTo("c");
+        assertThat(map.get(5L)).isEqualTo("e");
+        assertThat(map.size()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void removeClearsBothSegments() {
+        RotatingCacheMap<String> map = new RotatingCacheMap<>(2);
+
+        map.put(1L, "a");
+        map.put(2L, "b");
+        map.put(1L, "c");
+        assertThat(map.get(1L)).isEqualTo("c");
+
+        assertThat(map.remove(1L)).isTrue();
+        assertThat(map.get(1L)).isNull();
+        assertThat(map.remove(1L)).isFalse();
+    }
+}
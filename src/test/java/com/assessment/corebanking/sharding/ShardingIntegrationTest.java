@@ -0,0 +1,264 @@
+package com.assessment.corebanking.sharding;
+
+import com.assessment.corebanking.bin.Luhn;
+import com.assessment.corebanking.dto.CardFieldSet;
+import com.assessment.corebanking.dto.CardRequest;
+import com.assessment.corebanking.entity.Card;
+import com.assessment.corebanking.entity.CardPan;
+import com.assessment.corebanking.enums.CardStatus;
+import com.assessment.corebanking.enums.CardType;
+import com.assessment.corebanking.money.Money;
+import com.assessment.corebanking.repository.CardPanRepository;
+import com.assessment.corebanking.repository.CardRepository;
+import com.assessment.corebanking.repository.CardShardRangeRepository;
+import com.assessment.corebanking.service.CardArchiveService;
+import com.assessment.corebanking.service.CardChangeService;
+import com.assessment.corebanking.service.CardService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+    "corebanking.sharding.enabled=true",
+    "corebanking.sharding.shards[0].url=jdbc:h2:mem:shard0;MODE=MSSQLServer;DB_CLOSE_DELAY=-1",
+    "corebanking.sharding.shards[0].username=sa",
+    "corebanking.sharding.shards[1].url=jdbc:h2:mem:shard1;MODE=MSSQLServer;DB_CLOSE_DELAY=-1",
+    "corebanking.sharding.shards[1].username=sa",
+    "corebanking.sharding.shards[2].url=jdbc:h2:mem:shard2;MODE=MSSQLServer;DB_CLOSE_DELAY=-1",
+    "corebanking.sharding.shards[2].username=sa",
+    "corebanking.sharding.rebalance-batch-size=7"
+})
+@ActiveProfiles("test")
+class ShardingIntegrationTest {
+
+    @Autowired
+    private CardService cardService;
+
+    @Autowired
+    private CardChangeService cardChangeService;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private CardPanRepository cardPanRepository;
+
+    @Autowired
+    private CardShardRangeRepository rangeRepository;
+
+    @Autowired
+    private CardShardRouter router;
+
+    @Autowired
+    private CardShardRebalancer rebalancer;
+
+    @Autowired
+    private CardArchiveService cardArchiveService;
+
+    @Autowired
+    private ShardSchemaInitializer schemaInitializer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanup() {
+        router.onEachShard(false, shard -> {
+            cardRepository.deleteAllInBatch();
+            cardPanRepository.deleteAllInBatch();
+            jdbcTemplate.update("delete from cards_archive");
+            return null;
+        });
+        router.saveRanges(ShardRangeMap.initial(router.getShardCount()));
+    }
+
+    @Test
+    void cardsAreSpreadAcrossShardsAndListedInGlobalOrder() {
+        List<Card> created = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            created.add(cardService.createCard(request(cardNumber(i))));
+        }
+
+        List<Long> counts = rebalancer.cardCounts();
+        assertThat(counts).hasSize(3).allMatch(count -> count > 0);
+        assertThat(counts.stream().mapToLong(Long::longValue).sum()).isEqualTo(30);
+        for (Card card : created) {
+            int shard = (int) (card.getId() / ShardRangeMap.RANGE_SIZE);
+            assertThat(router.onShard(shard, () -> cardRepository.existsById(card.getId()))).isTrue();
+            assertThat(router.onShard(shard, () -> cardPanRepository.existsById(card.getId()))).isTrue();
+            assertThat(cardService.getCardById(card.getId()).getMaskedNumber()).isEqualTo(card.getMaskedNumber());
+        }
+
+        Page<Card> page = cardService.getAllCards(PageRequest.of(1, 10, Sort.by("maskedNumber")));
+
+        List<String> expected = created.stream().map(Card::getMaskedNumber).sorted().toList().subList(10, 20);
+        assertThat(page.getContent()).extracting(Card::getMaskedNumber).containsExactlyElementsOf(expected);
+        assertThat(page.getTotalElements()).isEqualTo(30);
+        Page<Map<String, Object>> projected = cardService.getAllCardFields(
+            PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "maskedNumber")), CardFieldSet.parse("id"));
+        assertThat(projected.getContent()).allMatch(row -> row.keySet().equals(Set.of("id")));
+        assertThat(projected.getContent()).extracting(row -> (Long) row.get("id")).containsExactlyElementsOf(
+            created.stream().sorted(Comparator.comparing(Card::getMaskedNumber).reversed()).map(Card::getId)
+                .toList().subList(10, 20));
+        assertThat(cardChangeService.getChanges(null, 100).getChanges()).hasSize(30);
+    }
+
+    @Test
+    void duplicateCardNumberIsRejectedAcrossShards() {
+        for (int shard = 0; shard < router.getShardCount(); shard++) {
+            String cardNumber = cardNumber(100 + shard);
+            save(shard, cardNumber);
+
+            assertThatThrownBy(() -> cardService.createCard(request(cardNumber)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        }
+    }
+
+    @Test
+    void rebalanceSpreadsCardsFromASingleShardAndKeepsThemReachable() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            String cardNumber = cardNumber(i);
+            ids.add(save(0, cardNumber).getId());
+        }
+
+        List<ShardMove> moves = rebalancer.rebalance();
+
+        assertThat(moves).isNotEmpty();
+        assertThat(rebalancer.cardCounts()).allMatch(count -> count >= 17 && count <= 23);
+        for (Long id : ids) {
+            int shard = router.shardForId(id);
+            assertThat(cardService.getCardById(id).getId()).isEqualTo(id);
+            assertThat(router.onShard(shard, () -> cardPanRepository.existsById(id))).isTrue();
+        }
+        Card created = cardService.createCard(request(cardNumber(99)));
+        assertThat(cardService.getCardById(created.getId()).getMaskedNumber()).endsWith(cardNumber(99).substring(12));
+        assertThat(cardService.getAllCards(PageRequest.of(6, 10)).getContent())
+            .extracting(Card::getId)
+            .isSortedAccordingTo(Comparator.naturalOrder())
+            .hasSize(1);
+        assertThat(rangeRepository.count()).isGreaterThan(3);
+    }
+
+    @Test
+    void shardsKeepIssuingIdsFromTheirOwnBlockAfterReceivingMovedCards() {
+        for (int i = 0; i < 60; i++) {
+            save(1, cardNumber(i));
+        }
+        // H2 keeps its identity when ids are inserted explicitly; push shard 0 past its block the way
+        // SQL Server's IDENTITY_INSERT of shard 1's ids would.
+        router.inTransaction(0, false, () -> {
+            jdbcTemplate.execute("alter table cards alter column id restart with " + (ShardRangeMap.RANGE_SIZE + 100));
+            return null;
+        });
+
+        assertThat(rebalancer.rebalance()).anyMatch(move -> move.getToShard() == 0);
+
+        for (int shard = 0; shard < router.getShardCount(); shard++) {
+            int i = 200;
+            while (router.shardForCardNumber(cardNumber(i)) != shard) {
+                i++;
+            }
+            Card created = cardService.createCard(request(cardNumber(i)));
+            assertThat(created.getId() / ShardRangeMap.RANGE_SIZE).isEqualTo(shard);
+            assertThat(router.shardForId(created.getId())).isEqualTo(shard);
+            assertThat(cardService.getCardById(created.getId()).getId()).isEqualTo(created.getId());
+        }
+    }
+
+    @Test
+    void archivedCardsMoveWithTheirRangeAndCanBeRestored() {
+        List<Long> archived = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            Card card = save(0, cardNumber(i));
+            if (i % 4 == 0) {
+                archived.add(card.getId());
+                router.inTransaction(0, false, () -> jdbcTemplate.update(
+                    "update cards set status = ?, updated_at = ? where id = ?",
+                    CardStatus.EXPIRED.name(), LocalDateTime.now().minusDays(400), card.getId()));
+            }
+        }
+        assertThat(cardArchiveService.archive()).isEqualTo(archived.size());
+
+        rebalancer.rebalance();
+
+        assertThat(archived).anyMatch(id -> router.shardForId(id) != 0);
+        for (Long id : archived) {
+            int shard = router.shardForId(id);
+            assertThat(cardService.getCardById(id).getStatus()).isEqualTo(CardStatus.EXPIRED);
+            assertThat(router.onShard(shard, () -> cardPanRepository.existsById(id))).isTrue();
+
+            cardArchiveService.restore(id);
+
+            assertThat(router.onShard(shard, () -> cardRepository.existsById(id))).isTrue();
+            for (int other = 0; other < router.getShardCount(); other++) {
+                assertThat(router.onShard(other, () -> jdbcTemplate.queryForObject(
+                    "select count(*) from cards_archive where id = ?", Long.class, id))).isZero();
+            }
+        }
+    }
+
+    @Test
+    void tablesAddedAfterAShardWasCreatedAreAddedOnStartup() {
+        router.onShard(2, () -> {
+            jdbcTemplate.execute("drop table cards_archive");
+            return null;
+        });
+
+        schemaInitializer.afterPropertiesSet();
+
+        assertThat(router.onShard(2, () -> jdbcTemplate.queryForObject(
+            "select count(*) from cards_archive", Long.class))).isZero();
+    }
+
+    private static String cardNumber(int i) {
+        return Luhn.withCheckDigit(String.format("4111%011d", i * 7919L));
+    }
+
+    private static CardRequest request(String cardNumber) {
+        CardRequest request = new CardRequest();
+        request.setCardNumber(cardNumber);
+        request.setCardholderName("Danial Ariff");
+        request.setExpiryDate(LocalDate.of(2031, 6, 30));
+        request.setStatus(CardStatus.ACTIVE);
+        request.setCardType(CardType.DEBIT);
+        request.setBalance(Money.of("15420.75"));
+        return request;
+    }
+
+    private Card save(int shard, String cardNumber) {
+        return router.inTransaction(shard, false, () -> {
+            Card card = cardRepository.save(entity(cardNumber));
+            cardPanRepository.save(new CardPan(card.getId(), cardNumber));
+            return card;
+        });
+    }
+
+    private static Card entity(String cardNumber) {
+        Card card = new Card();
+        card.setMaskedNumber("************" + cardNumber.substring(12));
+        card.setCardholderName("Danial Ariff");
+        card.setExpiryDate(LocalDate.of(2031, 6, 30));
+        card.setStatus(CardStatus.ACTIVE);
+        card.setCardType(CardType.DEBIT);
+        card.setBalance(Money.of("15420.75"));
+        return card;
+    }
+}